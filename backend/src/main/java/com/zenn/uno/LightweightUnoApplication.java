@@ -0,0 +1,170 @@
+package com.zenn.uno;
+
+import com.zenn.uno.adapter.http.LightweightHttpAdapter;
+import com.zenn.uno.adapter.persistence.EventLogGameRepository;
+import com.zenn.uno.adapter.persistence.InMemoryGameRepository;
+import com.zenn.uno.adapter.socket.GameSocketServer;
+import com.zenn.uno.adapter.web.GameEventBroadcaster;
+import com.zenn.uno.adapter.web.GameStateHistory;
+import com.zenn.uno.adapter.web.GameStateJsonCache;
+import com.zenn.uno.adapter.web.GameStateWaiters;
+import com.zenn.uno.application.input.BatchActionUseCase;
+import com.zenn.uno.application.input.BulkActionUseCase;
+import com.zenn.uno.application.input.CpuTurnScheduler;
+import com.zenn.uno.application.input.DrawCardUseCase;
+import com.zenn.uno.application.input.FastForwardUseCase;
+import com.zenn.uno.application.input.GameCommandExecutor;
+import com.zenn.uno.application.input.GameCommitService;
+import com.zenn.uno.application.input.GetGameStateUseCase;
+import com.zenn.uno.application.input.PlayCardUseCase;
+import com.zenn.uno.application.input.ProcessCpuTurnUseCase;
+import com.zenn.uno.application.input.StartGameUseCase;
+import com.zenn.uno.application.input.TurnProcessingService;
+import com.zenn.uno.application.output.GameRepository;
+import com.zenn.uno.domain.rule.EffectRegistry;
+import com.zenn.uno.domain.rule.cpu.CpuPolicyImpl;
+import com.zenn.uno.domain.rule.effect.Draw2Effect;
+import com.zenn.uno.domain.rule.effect.ReverseEffect;
+import com.zenn.uno.domain.rule.effect.SkipEffect;
+import com.zenn.uno.domain.rule.effect.SwapEffect;
+import com.zenn.uno.domain.rule.effect.WildDraw4Effect;
+import com.zenn.uno.domain.rule.effect.WildEffect;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+/**
+ * Same game server as UnoApplication without the Spring container: the
+ * components are wired by hand and served by the JDK's HTTP server
+ * (LightweightHttpAdapter). Starts in a fraction of the time and memory;
+ * for small deployments and fast restarts.
+ *
+ * Settings are the same uno.* keys, from --key=value arguments, system
+ * properties or environment variables, plus server.port and
+ * uno.http.threads. Run with
+ *   java -cp uno.jar -Dloader.main=com.zenn.uno.LightweightUnoApplication \
+ *       org.springframework.boot.loader.launch.PropertiesLauncher
+ */
+public class LightweightUnoApplication {
+    private static final Logger log = LoggerFactory.getLogger(LightweightUnoApplication.class);
+
+    private final Runnable shutdown;
+    private final int port;
+
+    private LightweightUnoApplication(Runnable shutdown, int port) {
+        this.shutdown = shutdown;
+        this.port = port;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LightweightUnoApplication app = start(args);
+        Runtime.getRuntime().addShutdownHook(new Thread(app::stop, "shutdown"));
+    }
+
+    // Wires and starts everything; server.port=0 picks a free port (see port())
+    public static LightweightUnoApplication start(String... args) throws IOException {
+        long startNanos = System.nanoTime();
+        StandardEnvironment env = new StandardEnvironment();
+        env.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+
+        InMemoryGameRepository memory = new InMemoryGameRepository(
+                duration(env, "uno.repository.idle-ttl", "30m"),
+                duration(env, "uno.repository.finished-retention", "5m"),
+                env.getProperty("uno.repository.max-games", Integer.class, 10000),
+                duration(env, "uno.repository.sweep-interval", "30s"),
+                duration(env, "uno.repository.hibernate-after", "5m"),
+                env.getProperty("uno.repository.hibernation-dir", "data/hibernated"));
+        EventLogGameRepository eventLog = "log".equals(env.getProperty("uno.persistence.mode"))
+                ? new EventLogGameRepository(memory,
+                        env.getProperty("uno.persistence.log.dir", "data/game-log"),
+                        env.getProperty("uno.persistence.log.segment-size", Integer.class, 16777216),
+                        env.getProperty("uno.persistence.log.compact-after-segments", Integer.class, 4))
+                : null;
+        GameRepository repository = eventLog != null ? eventLog : memory;
+
+        EffectRegistry effects = new EffectRegistry();
+        new SkipEffect(effects).register();
+        new ReverseEffect(effects).register();
+        new Draw2Effect(effects).register();
+        new SwapEffect(effects).register();
+        new WildEffect(effects).register();
+        new WildDraw4Effect(effects).register();
+        TurnProcessingService turnService = new TurnProcessingService(effects,
+                new CpuPolicyImpl(env.getProperty("uno.cpu.difficulty", "NORMAL")));
+
+        GameEventBroadcaster broadcaster = new GameEventBroadcaster(
+                env.getProperty("uno.events.push-threads", Integer.class, 4),
+                env.getProperty("uno.events.queue-capacity", Integer.class, 16),
+                duration(env, "uno.events.send-timeout", "5s"));
+        GameStateHistory history = new GameStateHistory(
+                env.getProperty("uno.delta.history-depth", Integer.class, 16),
+                env.getProperty("uno.delta.max-games", Integer.class, 10000));
+        GameStateWaiters waiters = new GameStateWaiters();
+        GameStateJsonCache stateCache = new GameStateJsonCache(
+                env.getProperty("uno.state-cache.max-games", Integer.class, 10000));
+
+        GameCommandExecutor executor = new GameCommandExecutor(
+                env.getProperty("uno.executor.threads", Integer.class, 0), env);
+        GameCommitService commitService = new GameCommitService(repository,
+                List.of(broadcaster, history, waiters, stateCache));
+        CpuTurnScheduler scheduler = new CpuTurnScheduler(repository, turnService, executor, commitService,
+                env.getProperty("uno.cpu.scheduler.enabled", Boolean.class, true),
+                duration(env, "uno.cpu.turn-delay", "3s"),
+                duration(env, "uno.cpu.scheduler.tick", "50ms"));
+        scheduler.resumeLoadedGames();
+
+        PlayCardUseCase play = new PlayCardUseCase(repository, turnService, executor, commitService, scheduler);
+        DrawCardUseCase draw = new DrawCardUseCase(repository, executor, commitService, scheduler);
+        ProcessCpuTurnUseCase cpuTurn = new ProcessCpuTurnUseCase(repository, turnService, executor,
+                commitService, scheduler);
+        BatchActionUseCase batch = new BatchActionUseCase(repository, play, draw, cpuTurn, executor,
+                commitService, scheduler);
+        StartGameUseCase start = new StartGameUseCase(commitService, scheduler);
+        GetGameStateUseCase getState = new GetGameStateUseCase(repository);
+        LightweightHttpAdapter http = new LightweightHttpAdapter(start, getState, play, draw, cpuTurn,
+                new FastForwardUseCase(repository, turnService, executor, commitService, scheduler),
+                batch, new BulkActionUseCase(batch),
+                broadcaster, history, waiters, stateCache);
+        GameSocketServer socket = env.getProperty("uno.socket.enabled", Boolean.class, false)
+                ? new GameSocketServer(start, getState, play, draw, cpuTurn, broadcaster,
+                        env.getProperty("uno.socket.port", Integer.class, 9090),
+                        env.getProperty("uno.socket.worker-threads", Integer.class, 4))
+                : null;
+
+        int port = env.getProperty("server.port", Integer.class, 8080);
+        http.start(port, env.getProperty("uno.http.threads", Integer.class, 200));
+        log.info("Started LightweightUnoApplication on port {} in {} ms", http.port(),
+                (System.nanoTime() - startNanos) / 1_000_000);
+        // Reverse order of creation, as the Spring context would
+        return new LightweightUnoApplication(() -> {
+            http.stop();
+            if (socket != null) {
+                socket.shutdown();
+            }
+            scheduler.shutdown();
+            executor.shutdown();
+            broadcaster.shutdown();
+            if (eventLog != null) {
+                eventLog.close();
+            }
+            memory.shutdown();
+        }, http.port());
+    }
+
+    public int port() {
+        return port;
+    }
+
+    public void stop() {
+        shutdown.run();
+    }
+
+    private static Duration duration(StandardEnvironment env, String key, String defaultValue) {
+        return DurationStyle.detectAndParse(env.getProperty(key, defaultValue));
+    }
+}
@@ -0,0 +1,425 @@
+package com.zenn.uno.adapter.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenn.uno.adapter.web.GameBinaryFormat;
+import com.zenn.uno.adapter.web.GameController.BatchRequest;
+import com.zenn.uno.adapter.web.GameController.BulkRequest;
+import com.zenn.uno.adapter.web.GameController.DrawRequest;
+import com.zenn.uno.adapter.web.GameController.PlayRequest;
+import com.zenn.uno.adapter.web.GameEventBroadcaster;
+import com.zenn.uno.adapter.web.GameStateHistory;
+import com.zenn.uno.adapter.web.GameStateJsonCache;
+import com.zenn.uno.adapter.web.GameStateWaiters;
+import com.zenn.uno.adapter.web.StateEtags;
+import com.zenn.uno.adapter.web.dto.FastForwardDto;
+import com.zenn.uno.adapter.web.dto.GameDto;
+import com.zenn.uno.adapter.web.dto.GameEventDto;
+import com.zenn.uno.application.input.BatchActionUseCase;
+import com.zenn.uno.application.input.BulkActionUseCase;
+import com.zenn.uno.application.input.DrawCardUseCase;
+import com.zenn.uno.application.input.FastForwardUseCase;
+import com.zenn.uno.application.input.GameVersionConflictException;
+import com.zenn.uno.application.input.GetGameStateUseCase;
+import com.zenn.uno.application.input.PlayCardUseCase;
+import com.zenn.uno.application.input.ProcessCpuTurnUseCase;
+import com.zenn.uno.application.input.StartGameUseCase;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The GameController REST surface on the JDK's built-in HTTP server, for the
+ * no-framework entry point (LightweightUnoApplication). Same routes, status
+ * codes, ETags and JSON; commands complete asynchronously as in the MVC adapter.
+ */
+public class LightweightHttpAdapter {
+    private static final Logger log = LoggerFactory.getLogger(LightweightHttpAdapter.class);
+    private static final String BASE = "/api/games/";
+    private static final long MAX_LONG_POLL_MILLIS = 60_000;
+
+    private final StartGameUseCase startGameUseCase;
+    private final GetGameStateUseCase getGameStateUseCase;
+    private final PlayCardUseCase playCardUseCase;
+    private final DrawCardUseCase drawCardUseCase;
+    private final ProcessCpuTurnUseCase processCpuTurnUseCase;
+    private final FastForwardUseCase fastForwardUseCase;
+    private final BatchActionUseCase batchActionUseCase;
+    private final BulkActionUseCase bulkActionUseCase;
+    private final GameEventBroadcaster eventBroadcaster;
+    private final GameStateHistory stateHistory;
+    private final GameStateWaiters stateWaiters;
+    private final GameStateJsonCache stateCache;
+    private final ObjectMapper json = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final ScheduledExecutorService timeouts = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "http-long-poll-timeout");
+        t.setDaemon(true);
+        return t;
+    });
+    private HttpServer server;
+    private ExecutorService requestThreads;
+
+    public LightweightHttpAdapter(StartGameUseCase startGameUseCase,
+            GetGameStateUseCase getGameStateUseCase,
+            PlayCardUseCase playCardUseCase,
+            DrawCardUseCase drawCardUseCase,
+            ProcessCpuTurnUseCase processCpuTurnUseCase,
+            FastForwardUseCase fastForwardUseCase,
+            BatchActionUseCase batchActionUseCase,
+            BulkActionUseCase bulkActionUseCase,
+            GameEventBroadcaster eventBroadcaster,
+            GameStateHistory stateHistory,
+            GameStateWaiters stateWaiters,
+            GameStateJsonCache stateCache) {
+        this.startGameUseCase = startGameUseCase;
+        this.getGameStateUseCase = getGameStateUseCase;
+        this.playCardUseCase = playCardUseCase;
+        this.drawCardUseCase = drawCardUseCase;
+        this.processCpuTurnUseCase = processCpuTurnUseCase;
+        this.fastForwardUseCase = fastForwardUseCase;
+        this.batchActionUseCase = batchActionUseCase;
+        this.bulkActionUseCase = bulkActionUseCase;
+        this.eventBroadcaster = eventBroadcaster;
+        this.stateHistory = stateHistory;
+        this.stateWaiters = stateWaiters;
+        this.stateCache = stateCache;
+    }
+
+    public void start(int port, int threads) throws IOException {
+        AtomicInteger counter = new AtomicInteger();
+        requestThreads = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "http-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.setExecutor(requestThreads);
+        server.createContext(BASE, this::handle);
+        server.start();
+    }
+
+    // The bound port (start with port 0 to pick a free one)
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            requestThreads.shutdownNow();
+        }
+        timeouts.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) {
+        try {
+            exchange.getResponseHeaders().add("Access-Control-Allow-Origin", "*");
+            if ("OPTIONS".equals(exchange.getRequestMethod())) { // CORS preflight
+                exchange.getResponseHeaders().add("Access-Control-Allow-Methods", "GET, POST, OPTIONS");
+                exchange.getResponseHeaders().add("Access-Control-Allow-Headers", "*");
+                send(exchange, 200, null, new byte[0]);
+                return;
+            }
+            route(exchange);
+        } catch (Exception e) {
+            fail(exchange, e);
+        }
+    }
+
+    // /api/games/{start | state-cache/stats | actions/bulk | {id}/...}
+    private void route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath().substring(BASE.length());
+        Map<String, String> query = query(exchange);
+        // Literal paths win over {id}/..., as in Spring
+        if (method.equals("GET") && path.equals("state-cache/stats")) {
+            sendJson(exchange, 200, stateCache.getStats());
+            return;
+        }
+        if (method.equals("POST") && path.equals("actions/bulk")) {
+            BulkRequest request = read(exchange, BulkRequest.class);
+            reply(exchange, bulkActionUseCase.execute(request.games()));
+            return;
+        }
+        int slash = path.indexOf('/');
+        String id = slash < 0 ? path : path.substring(0, slash);
+        String route = method + " " + (slash < 0 ? path : "{id}" + path.substring(slash));
+        switch (route) {
+            case "POST start" -> {
+                Long cpuDelayMs = optionalLong(query, "cpuDelayMs");
+                String gameId = startGameUseCase.execute(cpuDelayMs == null ? null : Duration.ofMillis(cpuDelayMs));
+                sendJson(exchange, 200, Map.of("gameId", gameId));
+            }
+            case "GET {id}/state" -> {
+                if (query.containsKey("waitAfter")) {
+                    Long timeoutMs = optionalLong(query, "timeoutMs");
+                    awaitState(exchange, id, requiredLong(query, "waitAfter"),
+                            timeoutMs == null ? 30000 : timeoutMs);
+                } else {
+                    getState(exchange, id);
+                }
+            }
+            case "GET {id}/delta" -> sendJson(exchange, 200,
+                    stateHistory.delta(id, requiredLong(query, "since"),
+                            getGameStateUseCase.currentVersion(id), () -> getGameStateUseCase.execute(id)));
+            case "GET {id}/events" -> events(exchange, id);
+            case "POST {id}/actions/play" -> {
+                PlayRequest request = read(exchange, PlayRequest.class);
+                reply(exchange, playCardUseCase.execute(id, request.playerId(), request.cardIndices(),
+                        request.declaredColor(), request.expectedVersion()));
+            }
+            case "POST {id}/actions/draw" -> {
+                DrawRequest request = read(exchange, DrawRequest.class);
+                reply(exchange, drawCardUseCase.execute(id, request.playerId(), request.expectedVersion()));
+            }
+            case "POST {id}/actions/cpu-turn" -> reply(exchange,
+                    processCpuTurnUseCase.execute(id, optionalLong(query, "expectedVersion")));
+            case "POST {id}/actions/fast-forward" -> reply(exchange,
+                    fastForwardUseCase.execute(id, optionalLong(query, "expectedVersion")));
+            case "POST {id}/actions/batch" -> {
+                BatchRequest request = read(exchange, BatchRequest.class);
+                reply(exchange, batchActionUseCase.execute(id, request.commands(), request.expectedVersion()));
+            }
+            default -> send(exchange, 404, "application/json",
+                    json.writeValueAsBytes(error(404, "Not Found", exchange)));
+        }
+    }
+
+    private void getState(HttpExchange exchange, String id) throws IOException {
+        long version = getGameStateUseCase.currentVersion(id);
+        boolean binary = GameBinaryFormat.isRequestedBy(exchange.getRequestHeaders().getFirst("Accept"));
+        String etag = binary ? StateEtags.binary(version) : StateEtags.json(version);
+        exchange.getResponseHeaders().add("Vary", "Accept");
+        if (StateEtags.matches(exchange.getRequestHeaders().getFirst("If-None-Match"), etag)) {
+            exchange.getResponseHeaders().add("ETag", etag);
+            send(exchange, 304, null, null);
+            return;
+        }
+        if (binary) {
+            GameDto dto = getGameStateUseCase.execute(id);
+            exchange.getResponseHeaders().add("ETag", StateEtags.binary(dto.getVersion()));
+            send(exchange, 200, GameBinaryFormat.MEDIA_TYPE.toString(), GameBinaryFormat.encode(dto));
+            return;
+        }
+        GameStateJsonCache.CachedState cached = stateCache.get(id, version);
+        if (cached == null) {
+            cached = getGameStateUseCase.render(id, stateCache::snapshot);
+        }
+        exchange.getResponseHeaders().add("ETag", StateEtags.json(cached.version()));
+        send(exchange, 200, "application/json", cached.json());
+    }
+
+    private void awaitState(HttpExchange exchange, String id, long waitAfter, long timeoutMs) {
+        AtomicBoolean done = new AtomicBoolean();
+        Runnable[] cancel = new Runnable[1];
+        cancel[0] = stateWaiters.await(id, waitAfter, dto -> {
+            if (done.compareAndSet(false, true)) {
+                sendState(exchange, dto);
+            }
+        });
+        ScheduledFuture<?> timeout = timeouts.schedule(() -> {
+            if (done.compareAndSet(false, true)) {
+                cancel[0].run();
+                send(exchange, 304, null, null);
+            }
+        }, Math.min(Math.max(timeoutMs, 0), MAX_LONG_POLL_MILLIS), TimeUnit.MILLISECONDS);
+        // Registered first, so a commit racing this check still completes the waiter
+        try {
+            if (getGameStateUseCase.currentVersion(id) <= waitAfter || !done.compareAndSet(false, true)) {
+                return;
+            }
+        } catch (RuntimeException e) {
+            if (!done.compareAndSet(false, true)) {
+                return; // The waiter or the timeout already answered
+            }
+            // The caller answers with the error, so neither may write to the exchange later
+            cancel[0].run();
+            timeout.cancel(false);
+            throw e;
+        }
+        cancel[0].run();
+        timeout.cancel(false);
+        sendState(exchange, getGameStateUseCase.execute(id));
+    }
+
+    private void sendState(HttpExchange exchange, GameDto dto) {
+        exchange.getResponseHeaders().add("ETag", StateEtags.json(dto.getVersion()));
+        respond(exchange, dto);
+    }
+
+    // SSE: STATE first, then every committed change, until the client goes away
+    private void events(HttpExchange exchange, String id) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.getResponseHeaders().add("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream body = exchange.getResponseBody();
+        // A failed write cancels the subscription; the connection goes with it
+        GameEventBroadcaster.Subscription subscription = eventBroadcaster.subscribe(id, event -> {
+            try {
+                writeEvent(body, event);
+            } catch (IOException e) {
+                exchange.close();
+                throw e;
+            }
+        });
+        subscription.onStalled(exchange::close); // Client stopped reading
+        try {
+            GameDto current = getGameStateUseCase.execute(id);
+            writeEvent(body, new GameEventDto(GameEventDto.Type.STATE, current.getVersion(), current));
+        } catch (IOException | RuntimeException e) {
+            subscription.cancel();
+            exchange.close();
+        }
+    }
+
+    private void writeEvent(OutputStream body, GameEventDto event) throws IOException {
+        String frame = "id:" + event.getVersion() + "\nevent:" + event.getType().name() + "\ndata:"
+                + json.writeValueAsString(event.getState()) + "\n\n";
+        synchronized (body) {
+            body.write(frame.getBytes(StandardCharsets.UTF_8));
+            body.flush();
+        }
+    }
+
+    private void reply(HttpExchange exchange, CompletableFuture<?> result) {
+        result.whenComplete((value, error) -> {
+            if (error != null) {
+                fail(exchange, error);
+            } else {
+                respond(exchange, value);
+            }
+        });
+    }
+
+    // JSON unless the client explicitly asked for the binary format
+    private void respond(HttpExchange exchange, Object value) {
+        try {
+            if ((value instanceof GameDto || value instanceof FastForwardDto)
+                    && GameBinaryFormat.isRequestedBy(exchange.getRequestHeaders().getFirst("Accept"))) {
+                send(exchange, 200, GameBinaryFormat.MEDIA_TYPE.toString(), GameBinaryFormat.encode(value));
+            } else {
+                sendJson(exchange, 200, value);
+            }
+        } catch (IOException e) {
+            fail(exchange, e);
+        }
+    }
+
+    private void fail(HttpExchange exchange, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        try {
+            if (cause instanceof GameVersionConflictException e) {
+                sendJson(exchange, 409, Map.of(
+                        "message", e.getMessage(),
+                        "gameId", e.getGameId(),
+                        "expectedVersion", e.getExpectedVersion()));
+            } else if (cause instanceof BadRequestException) {
+                log.debug("Bad request {}: {}", exchange.getRequestURI(), cause.getMessage());
+                sendJson(exchange, 400, error(400, "Bad Request", exchange));
+            } else {
+                log.warn("Request {} failed", exchange.getRequestURI(), cause);
+                sendJson(exchange, 500, error(500, "Internal Server Error", exchange));
+            }
+        } catch (IOException e) {
+            exchange.close();
+        }
+    }
+
+    // Same shape as Spring Boot's default error body
+    private static Map<String, Object> error(int status, String reason, HttpExchange exchange) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", java.time.OffsetDateTime.now().toString());
+        body.put("status", status);
+        body.put("error", reason);
+        body.put("path", exchange.getRequestURI().getPath());
+        return body;
+    }
+
+    private void sendJson(HttpExchange exchange, int status, Object value) throws IOException {
+        send(exchange, status, "application/json", json.writeValueAsBytes(value));
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) {
+        try {
+            if (contentType != null) {
+                exchange.getResponseHeaders().set("Content-Type", contentType);
+            }
+            exchange.sendResponseHeaders(status, body == null || body.length == 0 ? -1 : body.length);
+            if (body != null && body.length > 0) {
+                exchange.getResponseBody().write(body);
+            }
+        } catch (IOException e) {
+            log.debug("Client went away: {}", e.toString());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private <T> T read(HttpExchange exchange, Class<T> type) throws IOException {
+        try {
+            return json.readValue(exchange.getRequestBody(), type);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Unreadable request body: " + e.getOriginalMessage());
+        }
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw != null) {
+            for (String pair : raw.split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0) {
+                    params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                            URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return params;
+    }
+
+    private static long requiredLong(Map<String, String> query, String name) {
+        Long value = optionalLong(query, name);
+        if (value == null) {
+            throw new BadRequestException("Required parameter '" + name + "' is not present");
+        }
+        return value;
+    }
+
+    private static Long optionalLong(Map<String, String> query, String name) {
+        String value = query.get(name);
+        try {
+            return value == null ? null : Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Parameter '" + name + "' is not a number: " + value);
+        }
+    }
+
+    // 400, as Spring answers a missing or unconvertible parameter or an unreadable body
+    private static final class BadRequestException extends RuntimeException {
+        BadRequestException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.zenn.uno.adapter.persistence;
+
+import com.zenn.uno.adapter.persistence.GameEventLog.RecordType;
+import com.zenn.uno.application.output.GameRepository;
+import com.zenn.uno.domain.model.Game;
+import com.zenn.uno.domain.model.LastAction;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Durable repository: games live in the in-memory store, and every save is
+ * appended to the game log before it is published there, so readers never see
+ * a state a crash could lose. On startup the log is replayed so in-flight
+ * games survive a restart.
+ *
+ * Records hold the full state after each command, not the action itself; a
+ * reshuffle is just part of the state after the draw that caused it.
+ *
+ * Enable with uno.persistence.mode=log.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "uno.persistence.mode", havingValue = "log")
+public class EventLogGameRepository implements GameRepository {
+    private static final Logger log = LoggerFactory.getLogger(EventLogGameRepository.class);
+    private static final byte[] EMPTY = new byte[0];
+    private static final int LOCK_STRIPES = 256;
+
+    private final InMemoryGameRepository cache;
+    private final GameStateCodec codec = new GameStateCodec();
+    private final GameEventLog eventLog;
+    // Check, append and publish of one game happen under its stripe. A
+    // ReentrantLock, not synchronized, so a virtual thread waiting on the
+    // fsync does not pin its carrier
+    private final Lock[] locks = new Lock[LOCK_STRIPES];
+
+    public EventLogGameRepository(InMemoryGameRepository cache,
+            @Value("${uno.persistence.log.dir:data/game-log}") String dir,
+            @Value("${uno.persistence.log.segment-size:16777216}") int segmentSize,
+            @Value("${uno.persistence.log.compact-after-segments:4}") int compactAfterSegments) throws IOException {
+        this.cache = cache;
+        this.eventLog = new GameEventLog(Path.of(dir), segmentSize, compactAfterSegments);
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+
+        eventLog.recoveredStates().forEach((id, state) -> cache.restore(codec.decode(state)));
+        log.info("Restored {} games from {}", eventLog.recoveredStates().size(), dir);
+
+        // Evicted games must not come back on the next restart
+        cache.addEvictionListener((id, reason) -> eventLog.append(RecordType.DELETE, id, EMPTY));
+    }
+
+    @Override
+    public void save(Game game) {
+        Lock lock = lockFor(game.getId());
+        lock.lock();
+        try {
+            long current = currentVersion(game.getId());
+            appendThenPublish(game, current);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean compareAndSave(Game game, long expectedVersion) {
+        Lock lock = lockFor(game.getId());
+        lock.lock();
+        try {
+            if (currentVersion(game.getId()) != expectedVersion) {
+                return false;
+            }
+            appendThenPublish(game, expectedVersion);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Readers only ever see states that are in the log: if the append fails,
+    // nothing is published and the game keeps its version
+    private void appendThenPublish(Game game, long expectedVersion) {
+        game.setVersion(expectedVersion + 1);
+        try {
+            append(game);
+        } catch (RuntimeException e) {
+            game.setVersion(expectedVersion);
+            throw e;
+        }
+        if (!cache.compareAndPublish(game, expectedVersion)) {
+            // Every write of a game holds its lock, so the version cannot move under us
+            throw new IllegalStateException("Game " + game.getId() + " changed while being logged");
+        }
+    }
+
+    private long currentVersion(String id) {
+        return cache.findById(id).map(Game::getVersion).orElse(0L);
+    }
+
+    private Lock lockFor(String id) {
+        return locks[id.hashCode() & (locks.length - 1)];
+    }
+
+    private void append(Game game) {
+        eventLog.append(recordType(game), game.getId(), codec.encode(game)).join();
+    }
+
+    @Override
+    public Optional<Game> findById(String id) {
+        return cache.findById(id);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        cache.deleteById(id); // Tombstone is written by the eviction listener
+    }
+
+    @Override
+    public void forEachLoaded(Consumer<Game> action) {
+        cache.forEachLoaded(action);
+    }
+
+    @Override
+    public void addLoadListener(Consumer<Game> listener) {
+        cache.addLoadListener(listener);
+    }
+
+    private RecordType recordType(Game game) {
+        LastAction lastAction = game.getLastAction();
+        if (lastAction == null) {
+            return RecordType.START;
+        }
+        switch (lastAction.getType()) {
+            case PLAY:
+                return RecordType.PLAY;
+            case DRAW:
+                return RecordType.DRAW;
+            default:
+                return RecordType.PASS;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        eventLog.close();
+    }
+}
@@ -0,0 +1,396 @@
+package com.zenn.uno.adapter.persistence;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Segmented, memory-mapped, append-only log of game states.
+ *
+ * Each record carries the full encoded state of one game after an action, so
+ * recovery only needs the newest record per game. Appends are handed to a
+ * single writer thread which writes everything queued and forces the segment
+ * once per batch (group commit). After a few segments the writer folds the
+ * newest states into a snapshot and drops the older segments, which keeps
+ * recovery time proportional to the number of live games, not game length.
+ *
+ * Record layout: [int bodyLength][int crc32(body)][byte type][short idLength][id][payload]
+ */
+public class GameEventLog implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(GameEventLog.class);
+
+    private static final Pattern SEGMENT = Pattern.compile("segment-(\\d+)\\.log");
+    private static final Pattern SNAPSHOT = Pattern.compile("snapshot-(\\d+)\\.snap");
+    private static final int HEADER_SIZE = 8;
+    private static final int MAX_BATCH = 1024;
+
+    public enum RecordType {
+        START,
+        PLAY,
+        DRAW,
+        PASS,
+        DELETE
+    }
+
+    private final Path dir;
+    private final int segmentSize;
+    private final int compactAfterSegments;
+    private final BlockingQueue<PendingAppend> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+
+    // Newest payload per game; owned by the writer thread once started
+    private final Map<String, byte[]> latest = new HashMap<>();
+    private final Map<String, byte[]> recovered;
+
+    private long activeSeq;
+    private FileChannel activeChannel;
+    private MappedByteBuffer active;
+    private int segmentsSinceSnapshot;
+    private volatile boolean running = true;
+
+    public GameEventLog(Path dir, int segmentSize, int compactAfterSegments) throws IOException {
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+        this.compactAfterSegments = compactAfterSegments;
+        Files.createDirectories(dir);
+
+        long nextSeq = recover();
+        this.recovered = Map.copyOf(latest);
+        openSegment(nextSeq);
+
+        this.writer = new Thread(this::writeLoop, "game-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // States rebuilt at startup (snapshot + replayed segments)
+    public Map<String, byte[]> recoveredStates() {
+        return recovered;
+    }
+
+    // Completes once the record is durable (forced to disk with its batch)
+    public CompletableFuture<Void> append(RecordType type, String gameId, byte[] payload) {
+        if (!running) {
+            return CompletableFuture.failedFuture(closedError());
+        }
+        PendingAppend pending = new PendingAppend(type, gameId, payload, new CompletableFuture<>());
+        queue.add(pending);
+        // Closed meanwhile: the writer may already have drained the queue for the last time
+        if (!running && queue.remove(pending)) {
+            pending.done().completeExceptionally(closedError());
+        }
+        return pending.done();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        failQueued(); // The writer did not get to them in time
+        try {
+            active.force();
+            activeChannel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close game log segment", e);
+        }
+    }
+
+    // ---- writer thread ----
+
+    private void writeLoop() {
+        List<PendingAppend> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingAppend first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            // A record that can never fit fails alone, before anything is written
+            batch.removeIf(p -> {
+                int size = recordSize(p);
+                if (size <= segmentSize) {
+                    return false;
+                }
+                p.done().completeExceptionally(
+                        new IllegalArgumentException("Record larger than segment: " + size));
+                return true;
+            });
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+            }
+            batch.clear();
+        }
+        failQueued();
+    }
+
+    // All or nothing: on failure the segment is rewound to where the batch began,
+    // so no failed record is replayed after a restart
+    private void writeBatch(List<PendingAppend> batch) {
+        long startSeq = activeSeq;
+        int startPosition = active.position();
+        int startSegments = segmentsSinceSnapshot;
+        try {
+            for (PendingAppend p : batch) {
+                writeRecord(p);
+            }
+            active.force(); // One fsync for the whole batch
+        } catch (IOException | RuntimeException e) {
+            log.error("Game log write failed", e);
+            rewind(startSeq, startPosition, startSegments);
+            batch.forEach(p -> p.done().completeExceptionally(e));
+            return;
+        }
+        // Only durable records become part of the state that snapshots are made from
+        batch.forEach(p -> apply(p.type(), p.gameId(), p.payload()));
+        batch.forEach(p -> p.done().complete(null));
+
+        if (segmentsSinceSnapshot >= compactAfterSegments) {
+            try {
+                compact();
+            } catch (IOException | RuntimeException e) {
+                log.error("Game log compaction failed", e); // The segments are still there
+            }
+        }
+    }
+
+    private void rewind(long seq, int position, int segments) {
+        try {
+            if (activeSeq != seq) {
+                activeChannel.close();
+                for (long s = seq + 1; s <= activeSeq; s++) {
+                    Files.deleteIfExists(segmentPath(s));
+                }
+                openSegment(seq);
+            }
+            segmentsSinceSnapshot = segments;
+            active.position(position);
+            if (active.remaining() >= Integer.BYTES) {
+                active.putInt(position, 0); // Replay stops here
+            }
+            active.force();
+        } catch (IOException | RuntimeException e) {
+            log.error("Game log could not be rewound after a failed write", e);
+        }
+    }
+
+    private void failQueued() {
+        PendingAppend p;
+        while ((p = queue.poll()) != null) {
+            p.done().completeExceptionally(closedError());
+        }
+    }
+
+    private static IllegalStateException closedError() {
+        return new IllegalStateException("Game log is closed");
+    }
+
+    private static int recordSize(PendingAppend p) {
+        return HEADER_SIZE + 1 + 2 + p.gameId().getBytes(StandardCharsets.UTF_8).length + p.payload().length;
+    }
+
+    private void writeRecord(PendingAppend p) throws IOException {
+        byte[] id = p.gameId().getBytes(StandardCharsets.UTF_8);
+        int bodyLength = 1 + 2 + id.length + p.payload().length;
+        if (active.remaining() < HEADER_SIZE + bodyLength) {
+            rollSegment();
+        }
+
+        ByteBuffer body = ByteBuffer.allocate(bodyLength);
+        body.put((byte) p.type().ordinal());
+        body.putShort((short) id.length);
+        body.put(id);
+        body.put(p.payload());
+
+        CRC32 crc = new CRC32();
+        crc.update(body.array());
+        active.putInt(bodyLength);
+        active.putInt((int) crc.getValue());
+        active.put(body.array());
+    }
+
+    private void rollSegment() throws IOException {
+        active.force();
+        activeChannel.close();
+        openSegment(activeSeq + 1);
+    }
+
+    private void openSegment(long seq) throws IOException {
+        activeSeq = seq;
+        activeChannel = FileChannel.open(segmentPath(seq),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        active = activeChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segmentsSinceSnapshot++;
+    }
+
+    // Snapshot everything logged so far, then drop the segments it covers
+    private void compact() throws IOException {
+        rollSegment();
+        long snapshotSeq = activeSeq;
+
+        Path tmp = dir.resolve("snapshot.tmp");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tmp))) {
+            out.writeInt(latest.size());
+            for (Map.Entry<String, byte[]> e : latest.entrySet()) {
+                out.writeUTF(e.getKey());
+                out.writeInt(e.getValue().length);
+                out.write(e.getValue());
+            }
+        }
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            ch.force(true);
+        }
+        Files.move(tmp, snapshotPath(snapshotSeq), StandardCopyOption.ATOMIC_MOVE);
+
+        deleteOlderThan(SEGMENT, snapshotSeq);
+        deleteOlderThan(SNAPSHOT, snapshotSeq);
+        segmentsSinceSnapshot = 1;
+        log.info("Compacted game log into snapshot {} ({} games)", snapshotSeq, latest.size());
+    }
+
+    // ---- recovery ----
+
+    private long recover() throws IOException {
+        TreeMap<Long, Path> snapshots = list(SNAPSHOT);
+        TreeMap<Long, Path> segments = list(SEGMENT);
+
+        long base = 0;
+        if (!snapshots.isEmpty()) {
+            base = snapshots.lastKey();
+            loadSnapshot(snapshots.lastEntry().getValue());
+        }
+
+        int replayed = 0;
+        for (Map.Entry<Long, Path> e : segments.tailMap(base, true).entrySet()) {
+            replayed += replaySegment(e.getValue());
+            segmentsSinceSnapshot++;
+        }
+
+        long nextSeq = Math.max(base, segments.isEmpty() ? 0 : segments.lastKey() + 1);
+        log.info("Recovered {} games from game log (snapshot={}, replayed records={})",
+                latest.size(), base, replayed);
+        return nextSeq;
+    }
+
+    private void loadSnapshot(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String id = in.readUTF();
+                byte[] payload = new byte[in.readInt()];
+                in.readFully(payload);
+                latest.put(id, payload);
+            }
+        }
+    }
+
+    private int replaySegment(Path path) throws IOException {
+        int records = 0;
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            while (buf.remaining() >= HEADER_SIZE) {
+                int bodyLength = buf.getInt();
+                int expectedCrc = buf.getInt();
+                if (bodyLength <= 0 || bodyLength > buf.remaining()) {
+                    break; // End of written data (or torn tail)
+                }
+                byte[] body = new byte[bodyLength];
+                buf.get(body);
+                CRC32 crc = new CRC32();
+                crc.update(body);
+                if ((int) crc.getValue() != expectedCrc) {
+                    log.warn("Stopping replay of {} at corrupt record", path.getFileName());
+                    break;
+                }
+
+                ByteBuffer b = ByteBuffer.wrap(body);
+                RecordType type = RecordType.values()[b.get()];
+                byte[] id = new byte[b.getShort()];
+                b.get(id);
+                byte[] payload = new byte[b.remaining()];
+                b.get(payload);
+                apply(type, new String(id, StandardCharsets.UTF_8), payload);
+                records++;
+            }
+        }
+        return records;
+    }
+
+    private void apply(RecordType type, String gameId, byte[] payload) {
+        if (type == RecordType.DELETE) {
+            latest.remove(gameId);
+        } else {
+            latest.put(gameId, payload);
+        }
+    }
+
+    // ---- files ----
+
+    private TreeMap<Long, Path> list(Pattern pattern) throws IOException {
+        TreeMap<Long, Path> result = new TreeMap<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(p -> {
+                Matcher m = pattern.matcher(p.getFileName().toString());
+                if (m.matches()) {
+                    result.put(Long.parseLong(m.group(1)), p);
+                }
+            });
+        }
+        return result;
+    }
+
+    private void deleteOlderThan(Pattern pattern, long seq) throws IOException {
+        for (Path p : list(pattern).headMap(seq, false).values()) {
+            try {
+                Files.deleteIfExists(p);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private Path segmentPath(long seq) {
+        return dir.resolve(String.format("segment-%012d.log", seq));
+    }
+
+    private Path snapshotPath(long seq) {
+        return dir.resolve(String.format("snapshot-%012d.snap", seq));
+    }
+
+    private record PendingAppend(RecordType type, String gameId, byte[] payload, CompletableFuture<Void> done) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.zenn.uno.adapter.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * One file per hibernated game, holding its GameStateCodec bytes. The file's
+ * modification time is set to the game's last access, so idle expiry keeps
+ * counting from when a player last touched it, not from when it was written.
+ */
+public class GameHibernationStore {
+    private static final String SUFFIX = ".game";
+
+    private final Path dir;
+
+    public GameHibernationStore(Path dir) {
+        this.dir = dir;
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void write(String gameId, byte[] state, long lastAccessMillis) {
+        try {
+            Path tmp = dir.resolve(gameId + ".tmp");
+            Files.write(tmp, state);
+            Files.setLastModifiedTime(tmp, FileTime.fromMillis(lastAccessMillis));
+            Files.move(tmp, path(gameId), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Optional<byte[]> read(String gameId) {
+        try {
+            return Optional.of(Files.readAllBytes(path(gameId)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean delete(String gameId) {
+        try {
+            return Files.deleteIfExists(path(gameId));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Ids of hibernated games last accessed before the given time
+    public List<String> lastAccessedBefore(long epochMillis) {
+        List<String> ids = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(p -> {
+                String name = p.getFileName().toString();
+                try {
+                    if (name.endsWith(SUFFIX) && Files.getLastModifiedTime(p).toMillis() < epochMillis) {
+                        ids.add(name.substring(0, name.length() - SUFFIX.length()));
+                    }
+                } catch (IOException e) {
+                    // Deleted concurrently (rehydrated); skip it
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return ids;
+    }
+
+    private Path path(String gameId) {
+        // Game ids are server-generated UUIDs, but never let one escape the directory
+        if (gameId.contains("/") || gameId.contains("\\") || gameId.contains("..")) {
+            throw new IllegalArgumentException("Invalid game id: " + gameId);
+        }
+        return dir.resolve(gameId + SUFFIX);
+    }
+}
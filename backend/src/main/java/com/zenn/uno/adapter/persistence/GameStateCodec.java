@@ -0,0 +1,168 @@
+package com.zenn.uno.adapter.persistence;
+
+import com.zenn.uno.domain.model.Card;
+import com.zenn.uno.domain.model.Color;
+import com.zenn.uno.domain.model.Deck;
+import com.zenn.uno.domain.model.Direction;
+import com.zenn.uno.domain.model.Game;
+import com.zenn.uno.domain.model.LastAction;
+import com.zenn.uno.domain.model.Player;
+import com.zenn.uno.domain.model.TurnManager;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary form of a whole Game (deck order, hands, discard pile, turn
+ * state). Every card is a single Card id byte, so a 4-player game fits in a
+ * few hundred bytes. Shared by the game log, its snapshots and hibernation.
+ *
+ * Layout: [format][id][game version][cpu delay (long)][state][color][winnerId?][lastAction?][turn index][direction]
+ * [player count]{[id][name][cpu][hand][cards played][cards drawn][turns taken]}[deck][deck random state]
+ * [discard pile], card lists as [count][codes...]. Only the current format decodes.
+ */
+public class GameStateCodec {
+    private static final int FORMAT_VERSION = 7;
+    private static final Color[] COLORS = Color.values();
+    private static final Game.GameState[] STATES = Game.GameState.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final LastAction.ActionType[] ACTION_TYPES = LastAction.ActionType.values();
+
+    public byte[] encode(Game game) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeUTF(game.getId());
+            out.writeLong(game.getVersion());
+            out.writeLong(game.getCpuTurnDelayMillis());
+            out.writeByte(game.getState().ordinal());
+            out.writeByte(game.getCurrentColor() == null ? -1 : game.getCurrentColor().ordinal());
+            writeNullableString(out, game.getWinnerId());
+
+            LastAction lastAction = game.getLastAction();
+            out.writeBoolean(lastAction != null);
+            if (lastAction != null) {
+                out.writeUTF(lastAction.getPlayerId());
+                out.writeByte(lastAction.getType().ordinal());
+                out.writeBoolean(lastAction.getCard() != null);
+                if (lastAction.getCard() != null) {
+                    writeCard(out, lastAction.getCard());
+                }
+            }
+
+            out.writeByte(game.getTurnManager().getCurrentIndex());
+            out.writeByte(game.getTurnManager().getDirection().ordinal());
+
+            out.writeByte(game.getPlayers().size());
+            for (Player p : game.getPlayers()) {
+                out.writeUTF(p.getId());
+                out.writeUTF(p.getName());
+                out.writeBoolean(p.isCpu());
+                writeCards(out, p.getHand());
+                out.writeInt(p.getCardsPlayed());
+                out.writeInt(p.getCardsDrawn());
+                out.writeInt(p.getTurnsTaken());
+            }
+
+            writeCards(out, game.getDeck().getCards());
+            out.writeLong(game.getDeck().getRandomState());
+            writeCards(out, game.getDiscardPile());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public Game decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            int version = in.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported game state format: " + version);
+            }
+            String id = in.readUTF();
+            long gameVersion = in.readLong();
+            long cpuTurnDelayMillis = in.readLong();
+            Game.GameState state = STATES[in.readByte()];
+            byte colorOrdinal = in.readByte();
+            String winnerId = readNullableString(in);
+
+            LastAction lastAction = null;
+            if (in.readBoolean()) {
+                String playerId = in.readUTF();
+                LastAction.ActionType type = ACTION_TYPES[in.readByte()];
+                Card card = in.readBoolean() ? readCard(in) : null;
+                lastAction = new LastAction(playerId, type, card);
+            }
+
+            int currentIndex = in.readByte();
+            Direction direction = DIRECTIONS[in.readByte()];
+
+            int playerCount = in.readByte();
+            List<Player> players = new ArrayList<>(playerCount);
+            for (int i = 0; i < playerCount; i++) {
+                Player p = new Player(in.readUTF(), in.readUTF(), in.readBoolean());
+                p.setHand(readCards(in));
+                p.restoreStats(in.readInt(), in.readInt(), in.readInt());
+                players.add(p);
+            }
+
+            Deck deck = new Deck(readCards(in), in.readLong());
+            List<Card> discardPile = readCards(in);
+
+            Game game = new Game(id, players, deck, discardPile, new TurnManager(players, currentIndex, direction));
+            game.setVersion(gameVersion);
+            game.setCpuTurnDelayMillis(cpuTurnDelayMillis);
+            game.setState(state);
+            game.setCurrentColor(colorOrdinal < 0 ? null : COLORS[colorOrdinal]);
+            game.setWinnerId(winnerId);
+            game.setLastAction(lastAction);
+            return game;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // A full deck is 112 cards, so one unsigned byte covers any pile
+    private void writeCards(DataOutputStream out, List<Card> cards) throws IOException {
+        byte[] codes = new byte[cards.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = (byte) cards.get(i).id();
+        }
+        out.writeByte(codes.length);
+        out.write(codes);
+    }
+
+    private List<Card> readCards(DataInputStream in) throws IOException {
+        byte[] codes = new byte[in.readUnsignedByte()];
+        in.readFully(codes);
+        List<Card> cards = new ArrayList<>(codes.length);
+        for (byte code : codes) {
+            cards.add(Card.of(code));
+        }
+        return cards;
+    }
+
+    private void writeCard(DataOutputStream out, Card card) throws IOException {
+        out.writeByte(card.id());
+    }
+
+    private Card readCard(DataInputStream in) throws IOException {
+        return Card.of(in.readUnsignedByte());
+    }
+
+    private void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -2,22 +2,417 @@ package com.zenn.uno.adapter.persistence;
 
 import com.zenn.uno.application.output.GameRepository;
 import com.zenn.uno.domain.model.Game;
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+/**
+ * Heap-backed store with bounded size.
+ * Games are dropped when idle for too long, when they have been finished for a
+ * while, or (least recently used first) when the store grows past its cap.
+ * Eviction runs on a background sweeper so save/findById never wait on it.
+ *
+ * Games idle for hibernateAfter (shorter than the idle TTL) are written to
+ * disk and dropped from the heap; findById rehydrates them transparently.
+ *
+ * Stored games are copy-on-write: commands change a copy (findForUpdate) and
+ * compareAndSave swaps it in, so a stored instance is never changed once
+ * published. Readers (and hibernation) use it without locks.
+ */
 @Repository
 public class InMemoryGameRepository implements GameRepository {
-    private final Map<String, Game> store = new ConcurrentHashMap<>();
+    private static final Logger log = LoggerFactory.getLogger(InMemoryGameRepository.class);
+
+    public enum EvictionReason {
+        IDLE, // Nobody touched the game for idleTtl
+        FINISHED, // Game ended more than finishedRetention ago
+        CAPACITY, // Store was over maxGames (LRU)
+        DELETED // Explicit deleteById
+    }
+
+    @FunctionalInterface
+    public interface EvictionListener {
+        void onEvicted(String gameId, EvictionReason reason);
+    }
+
+    private final Map<String, Entry> store = new ConcurrentHashMap<>();
+    private final Map<EvictionReason, AtomicLong> evictions = new EnumMap<>(EvictionReason.class);
+
+    private final long idleTtlMillis;
+    private final long finishedRetentionMillis;
+    private final int maxGames;
+    private final ScheduledExecutorService sweeper;
+    private final AtomicBoolean overflowSweepPending = new AtomicBoolean();
+    private final List<EvictionListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<Game>> loadListeners = new CopyOnWriteArrayList<>();
+    private final Map<String, CompletableFuture<Entry>> loading = new ConcurrentHashMap<>();
+
+    private final long hibernateAfterMillis;
+    private final GameHibernationStore hibernationStore;
+    private final GameStateCodec codec = new GameStateCodec();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong hibernations = new AtomicLong();
+    private final AtomicLong rehydrations = new AtomicLong();
+    private final AtomicLong rehydrationNanos = new AtomicLong();
+    private final AtomicLong maxRehydrationNanos = new AtomicLong();
+
+    public InMemoryGameRepository(
+            @Value("${uno.repository.idle-ttl:30m}") Duration idleTtl,
+            @Value("${uno.repository.finished-retention:5m}") Duration finishedRetention,
+            @Value("${uno.repository.max-games:10000}") int maxGames,
+            @Value("${uno.repository.sweep-interval:30s}") Duration sweepInterval,
+            @Value("${uno.repository.hibernate-after:5m}") Duration hibernateAfter,
+            @Value("${uno.repository.hibernation-dir:data/hibernated}") String hibernationDir) {
+        this.idleTtlMillis = idleTtl.toMillis();
+        this.finishedRetentionMillis = finishedRetention.toMillis();
+        this.maxGames = maxGames;
+        // Zero (or anything not below the idle TTL) disables hibernation
+        boolean hibernate = !hibernateAfter.isZero() && hibernateAfter.compareTo(idleTtl) < 0;
+        this.hibernateAfterMillis = hibernate ? hibernateAfter.toMillis() : Long.MAX_VALUE;
+        this.hibernationStore = hibernate ? new GameHibernationStore(Path.of(hibernationDir)) : null;
+        for (EvictionReason reason : EvictionReason.values()) {
+            evictions.put(reason, new AtomicLong());
+        }
+
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "game-store-sweeper");
+            t.setDaemon(true);
+            return t;
+        });
+        long interval = sweepInterval.toMillis();
+        sweeper.scheduleWithFixedDelay(this::sweep, interval, interval, TimeUnit.MILLISECONDS);
+    }
 
     @Override
     public void save(Game game) {
-        store.put(game.getId(), game);
+        store.compute(game.getId(), (id, entry) -> {
+            game.setVersion(game.getVersion() + 1);
+            return publish(entry, game);
+        });
+        trimIfOverCapacity();
+    }
+
+    @Override
+    public boolean compareAndSave(Game game, long expectedVersion) {
+        return swap(game, expectedVersion, true);
+    }
+
+    // compareAndSave for a game that already carries its next version
+    // (expectedVersion + 1), e.g. because it was made durable with it first
+    boolean compareAndPublish(Game game, long expectedVersion) {
+        return swap(game, expectedVersion, false);
+    }
+
+    private boolean swap(Game game, long expectedVersion, boolean bumpVersion) {
+        if (!store.containsKey(game.getId())) {
+            loadHibernated(game.getId()); // So its version is compared; not a read, so no hit or touch
+        }
+        boolean[] saved = new boolean[1];
+        store.compute(game.getId(), (id, entry) -> {
+            if (entry != null && entry.game == game) {
+                // Changed in place, so the version check would compare the game with itself
+                throw new IllegalStateException("Stored game " + id + " was changed without findForUpdate");
+            }
+            long current = entry == null ? 0 : entry.game.getVersion();
+            if (current != expectedVersion) {
+                return entry;
+            }
+            saved[0] = true;
+            if (bumpVersion) {
+                game.setVersion(game.getVersion() + 1);
+            }
+            return publish(entry, game);
+        });
+        if (saved[0]) {
+            trimIfOverCapacity();
+        }
+        return saved[0];
+    }
+
+    // Put a previously persisted game back as-is, keeping its version
+    public void restore(Game game) {
+        store.put(game.getId(), new Entry(game));
+    }
+
+    // Runs inside compute, with the new version already set: readers never see the old one
+    private Entry publish(Entry entry, Game game) {
+        if (entry == null) {
+            return new Entry(game);
+        }
+        entry.set(game);
+        entry.touch();
+        return entry;
+    }
+
+    // Over the cap: let the sweeper trim in the background instead of blocking here
+    private void trimIfOverCapacity() {
+        if (store.size() > maxGames && overflowSweepPending.compareAndSet(false, true)) {
+            sweeper.execute(() -> {
+                overflowSweepPending.set(false);
+                sweep();
+            });
+        }
     }
 
     @Override
     public Optional<Game> findById(String id) {
-        return Optional.ofNullable(store.get(id));
+        Entry entry = store.get(id);
+        if (entry != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            entry = loadHibernated(id);
+            if (entry == null) {
+                return Optional.empty();
+            }
+        }
+        entry.touch();
+        return Optional.of(entry.game);
+    }
+
+    // The entry of a game not on the heap, rehydrated from disk if it was hibernated; null if there is none.
+    // The disk read runs outside the map's bin locks; concurrent loads of one id wait for the first one
+    private Entry loadHibernated(String id) {
+        if (hibernationStore == null) {
+            return null;
+        }
+        CompletableFuture<Entry> load = new CompletableFuture<>();
+        CompletableFuture<Entry> inFlight = loading.putIfAbsent(id, load);
+        if (inFlight != null) {
+            return inFlight.join();
+        }
+        Entry entry;
+        boolean loaded = false;
+        try {
+            entry = store.get(id); // Loaded by someone else since our miss
+            if (entry == null) {
+                entry = rehydrate(id);
+                if (entry != null) {
+                    Entry saved = store.putIfAbsent(id, entry);
+                    loaded = saved == null;
+                    entry = loaded ? entry : saved;
+                }
+            }
+            load.complete(entry);
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(id, load);
+        }
+        if (loaded) {
+            notifyLoaded(entry.game); // Only by the thread that loaded it
+        }
+        return entry;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        boolean removed = store.remove(id) != null;
+        if (hibernationStore != null) {
+            removed |= hibernationStore.delete(id);
+        }
+        if (removed) {
+            evictions.get(EvictionReason.DELETED).incrementAndGet();
+            notifyEvicted(id, EvictionReason.DELETED);
+        }
+    }
+
+    @Override
+    public void forEachLoaded(Consumer<Game> action) {
+        store.values().forEach(entry -> action.accept(entry.game));
+    }
+
+    @Override
+    public void addLoadListener(Consumer<Game> listener) {
+        loadListeners.add(listener);
+    }
+
+    public void addEvictionListener(EvictionListener listener) {
+        listeners.add(listener);
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    public Map<EvictionReason, Long> getEvictionCounts() {
+        Map<EvictionReason, Long> counts = new EnumMap<>(EvictionReason.class);
+        evictions.forEach((reason, count) -> counts.put(reason, count.get()));
+        return counts;
+    }
+
+    public HibernationStats getHibernationStats() {
+        long count = rehydrations.get();
+        return new HibernationStats(hits.get(), misses.get(), hibernations.get(), count,
+                count == 0 ? 0 : rehydrationNanos.get() / count / 1_000,
+                maxRehydrationNanos.get() / 1_000);
+    }
+
+    public record HibernationStats(long hits, long misses, long hibernated, long rehydrated,
+            long avgRehydrationMicros, long maxRehydrationMicros) {
+    }
+
+    void sweep() {
+        try {
+            long now = System.currentTimeMillis();
+            Map<EvictionReason, Integer> evicted = new EnumMap<>(EvictionReason.class);
+            int hibernated = 0;
+
+            for (Map.Entry<String, Entry> e : store.entrySet()) {
+                Entry entry = e.getValue();
+                EvictionReason reason = expiryReason(entry, now);
+                if (reason != null) {
+                    if (store.remove(e.getKey(), entry)) {
+                        evicted.merge(reason, 1, Integer::sum);
+                        notifyEvicted(e.getKey(), reason);
+                    }
+                } else if (now - entry.lastAccess >= hibernateAfterMillis
+                        && entry.game.getState() != Game.GameState.FINISHED
+                        && hibernate(e.getKey(), entry)) {
+                    hibernated++;
+                }
+            }
+
+            // Hibernated games still age out with the idle TTL, from their last access
+            if (hibernationStore != null) {
+                for (String id : hibernationStore.lastAccessedBefore(now - idleTtlMillis)) {
+                    if (!store.containsKey(id) && hibernationStore.delete(id)) {
+                        evicted.merge(EvictionReason.IDLE, 1, Integer::sum);
+                        notifyEvicted(id, EvictionReason.IDLE);
+                    }
+                }
+            }
+
+            int overflow = store.size() - maxGames;
+            if (overflow > 0) {
+                // Snapshot access times so concurrent touches can't break the sort
+                List<LruCandidate> lru = new ArrayList<>(store.size());
+                store.forEach((id, entry) -> lru.add(new LruCandidate(id, entry, entry.lastAccess)));
+                lru.sort(Comparator.comparingLong(LruCandidate::lastAccess));
+                for (int i = 0; i < overflow && i < lru.size(); i++) {
+                    LruCandidate c = lru.get(i);
+                    if (store.remove(c.id(), c.entry())) {
+                        evicted.merge(EvictionReason.CAPACITY, 1, Integer::sum);
+                        notifyEvicted(c.id(), EvictionReason.CAPACITY);
+                    }
+                }
+            }
+
+            if (!evicted.isEmpty()) {
+                evicted.forEach((reason, count) -> evictions.get(reason).addAndGet(count));
+                log.info("Evicted games {} (live={}, total={})", evicted, store.size(), getEvictionCounts());
+            }
+            if (hibernated > 0) {
+                log.info("Hibernated {} idle games ({})", hibernated, getHibernationStats());
+            }
+        } catch (RuntimeException ex) {
+            // Never let one bad sweep kill the scheduled task
+            log.warn("Game store sweep failed", ex);
+        }
+    }
+
+    private boolean hibernate(String id, Entry entry) {
+        long observedAccess = entry.lastAccess;
+        hibernationStore.write(id, codec.encode(entry.game), observedAccess);
+        // Only drop it from the heap if nobody touched it while we were writing
+        boolean dropped = store.computeIfPresent(id,
+                (k, e) -> e == entry && e.lastAccess == observedAccess ? null : e) == null;
+        if (dropped) {
+            hibernations.incrementAndGet();
+        } else {
+            hibernationStore.delete(id);
+        }
+        return dropped;
+    }
+
+    // Only one thread at a time per id (loadHibernated); the file is gone before the entry is published
+    private Entry rehydrate(String id) {
+        long start = System.nanoTime();
+        Optional<byte[]> state = hibernationStore.read(id);
+        if (state.isEmpty()) {
+            return null;
+        }
+        Entry entry = new Entry(codec.decode(state.get()));
+        hibernationStore.delete(id);
+
+        long elapsed = System.nanoTime() - start;
+        rehydrations.incrementAndGet();
+        rehydrationNanos.addAndGet(elapsed);
+        maxRehydrationNanos.accumulateAndGet(elapsed, Math::max);
+        return entry;
+    }
+
+    private void notifyLoaded(Game game) {
+        for (Consumer<Game> listener : loadListeners) {
+            listener.accept(game);
+        }
+    }
+
+    private void notifyEvicted(String id, EvictionReason reason) {
+        for (EvictionListener listener : listeners) {
+            listener.onEvicted(id, reason);
+        }
+    }
+
+    private EvictionReason expiryReason(Entry entry, long now) {
+        if (entry.finishedAt != 0 && now - entry.finishedAt >= finishedRetentionMillis) {
+            return EvictionReason.FINISHED;
+        }
+        if (now - entry.lastAccess >= idleTtlMillis) {
+            return EvictionReason.IDLE;
+        }
+        return null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    private record LruCandidate(String id, Entry entry, long lastAccess) {
+    }
+
+    private static final class Entry {
+        volatile Game game;
+        volatile long lastAccess;
+        volatile long finishedAt; // When the game was first published FINISHED; 0 while it is running
+
+        Entry(Game game) {
+            this.lastAccess = System.currentTimeMillis();
+            set(game);
+        }
+
+        // Only called inside compute (or before the entry is shared), so one writer at a time
+        void set(Game game) {
+            this.game = game;
+            if (finishedAt == 0 && game.getState() == Game.GameState.FINISHED) {
+                finishedAt = System.currentTimeMillis();
+            }
+        }
+
+        void touch() {
+            lastAccess = System.currentTimeMillis();
+        }
     }
 }
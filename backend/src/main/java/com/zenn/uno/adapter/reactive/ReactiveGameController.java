@@ -0,0 +1,243 @@
+package com.zenn.uno.adapter.reactive;
+
+import com.zenn.uno.adapter.web.GameBinaryFormat;
+import com.zenn.uno.adapter.web.GameController.BatchRequest;
+import com.zenn.uno.adapter.web.GameController.BulkRequest;
+import com.zenn.uno.adapter.web.GameController.DrawRequest;
+import com.zenn.uno.adapter.web.GameController.PlayRequest;
+import com.zenn.uno.adapter.web.GameEventBroadcaster;
+import com.zenn.uno.adapter.web.GameStateHistory;
+import com.zenn.uno.adapter.web.GameStateJsonCache;
+import com.zenn.uno.adapter.web.GameStateWaiters;
+import com.zenn.uno.adapter.web.StateEtags;
+import com.zenn.uno.adapter.web.dto.BatchResultDto;
+import com.zenn.uno.adapter.web.dto.BulkResultDto;
+import com.zenn.uno.adapter.web.dto.FastForwardDto;
+import com.zenn.uno.adapter.web.dto.GameDeltaDto;
+import com.zenn.uno.adapter.web.dto.GameDto;
+import com.zenn.uno.adapter.web.dto.GameEventDto;
+import com.zenn.uno.application.input.BatchActionUseCase;
+import com.zenn.uno.application.input.BulkActionUseCase;
+import com.zenn.uno.application.input.DrawCardUseCase;
+import com.zenn.uno.application.input.FastForwardUseCase;
+import com.zenn.uno.application.input.GameVersionConflictException;
+import com.zenn.uno.application.input.GetGameStateUseCase;
+import com.zenn.uno.application.input.PlayCardUseCase;
+import com.zenn.uno.application.input.ProcessCpuTurnUseCase;
+import com.zenn.uno.application.input.StartGameUseCase;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Event-loop (WebFlux/Netty) twin of GameController: same routes, same use
+ * cases, same JSON. Active when spring.main.web-application-type=reactive.
+ *
+ * Commands already complete asynchronously on the game's writer, so they map
+ * straight onto Mono. Reads that may touch disk (a hibernated game, the
+ * durable log) run on boundedElastic so the event loop never blocks.
+ * The binary format is served by /state only.
+ */
+@RestController
+@RequestMapping("/api/games")
+@CrossOrigin(origins = "*") // Allow frontend dev server
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveGameController {
+    private static final long MAX_LONG_POLL_MILLIS = 60_000;
+
+    private final StartGameUseCase startGameUseCase;
+    private final GetGameStateUseCase getGameStateUseCase;
+    private final PlayCardUseCase playCardUseCase;
+    private final DrawCardUseCase drawCardUseCase;
+    private final ProcessCpuTurnUseCase processCpuTurnUseCase;
+    private final FastForwardUseCase fastForwardUseCase;
+    private final BatchActionUseCase batchActionUseCase;
+    private final BulkActionUseCase bulkActionUseCase;
+    private final GameEventBroadcaster eventBroadcaster;
+    private final GameStateHistory stateHistory;
+    private final GameStateWaiters stateWaiters;
+    private final GameStateJsonCache stateCache;
+
+    public ReactiveGameController(StartGameUseCase startGameUseCase,
+            GetGameStateUseCase getGameStateUseCase,
+            PlayCardUseCase playCardUseCase,
+            DrawCardUseCase drawCardUseCase,
+            ProcessCpuTurnUseCase processCpuTurnUseCase,
+            FastForwardUseCase fastForwardUseCase,
+            BatchActionUseCase batchActionUseCase,
+            BulkActionUseCase bulkActionUseCase,
+            GameEventBroadcaster eventBroadcaster,
+            GameStateHistory stateHistory,
+            GameStateWaiters stateWaiters,
+            GameStateJsonCache stateCache) {
+        this.startGameUseCase = startGameUseCase;
+        this.getGameStateUseCase = getGameStateUseCase;
+        this.playCardUseCase = playCardUseCase;
+        this.drawCardUseCase = drawCardUseCase;
+        this.processCpuTurnUseCase = processCpuTurnUseCase;
+        this.fastForwardUseCase = fastForwardUseCase;
+        this.batchActionUseCase = batchActionUseCase;
+        this.bulkActionUseCase = bulkActionUseCase;
+        this.eventBroadcaster = eventBroadcaster;
+        this.stateHistory = stateHistory;
+        this.stateWaiters = stateWaiters;
+        this.stateCache = stateCache;
+    }
+
+    @PostMapping("/start")
+    public Mono<Map<String, String>> start(@RequestParam(required = false) Long cpuDelayMs) {
+        return blocking(() -> Map.of("gameId",
+                startGameUseCase.execute(cpuDelayMs == null ? null : Duration.ofMillis(cpuDelayMs))));
+    }
+
+    // Same contract as GameController.getState: version ETag, cached JSON, optional binary
+    @GetMapping("/{id}/state")
+    public Mono<ResponseEntity<byte[]>> getState(@PathVariable String id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            ServerWebExchange exchange) {
+        boolean binary = GameBinaryFormat.isRequestedBy(accept);
+        return blocking(() -> {
+            long version = getGameStateUseCase.currentVersion(id);
+            if (exchange.checkNotModified(binary ? StateEtags.binary(version) : StateEtags.json(version))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).<byte[]>build();
+            }
+            if (binary) {
+                GameDto dto = getGameStateUseCase.execute(id);
+                return ResponseEntity.ok().eTag(StateEtags.binary(dto.getVersion())).varyBy(HttpHeaders.ACCEPT)
+                        .contentType(GameBinaryFormat.MEDIA_TYPE).body(GameBinaryFormat.encode(dto));
+            }
+            GameStateJsonCache.CachedState cached = stateCache.get(id, version);
+            if (cached == null) {
+                cached = getGameStateUseCase.render(id, stateCache::snapshot);
+            }
+            return ResponseEntity.ok().eTag(StateEtags.json(cached.version())).varyBy(HttpHeaders.ACCEPT)
+                    .contentType(MediaType.APPLICATION_JSON).body(cached.json());
+        });
+    }
+
+    // Long poll: completes on the next commit past waitAfter, 304 on timeout
+    @GetMapping(path = "/{id}/state", params = "waitAfter")
+    public Mono<ResponseEntity<GameDto>> awaitState(
+            @PathVariable String id,
+            @RequestParam long waitAfter,
+            @RequestParam(defaultValue = "30000") long timeoutMs) {
+        Mono<ResponseEntity<GameDto>> next = Mono.create(sink -> {
+            sink.onDispose(stateWaiters.await(id, waitAfter, dto -> sink.success(withEtag(dto)))::run);
+            // Registered first, so a commit racing this check still completes the waiter
+            Schedulers.boundedElastic().schedule(() -> {
+                try {
+                    if (getGameStateUseCase.currentVersion(id) > waitAfter) {
+                        sink.success(withEtag(getGameStateUseCase.execute(id)));
+                    }
+                } catch (RuntimeException e) {
+                    sink.error(e);
+                }
+            });
+        });
+        return next.timeout(Duration.ofMillis(Math.min(Math.max(timeoutMs, 0), MAX_LONG_POLL_MILLIS)),
+                Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build()));
+    }
+
+    private static ResponseEntity<GameDto> withEtag(GameDto dto) {
+        return ResponseEntity.ok().eTag(StateEtags.json(dto.getVersion())).body(dto);
+    }
+
+    @GetMapping("/state-cache/stats")
+    public GameStateJsonCache.Stats getStateCacheStats() {
+        return stateCache.getStats();
+    }
+
+    @GetMapping("/{id}/delta")
+    public Mono<GameDeltaDto> getDelta(@PathVariable String id, @RequestParam long since) {
+        return blocking(() -> stateHistory.delta(id, since, getGameStateUseCase.currentVersion(id),
+                () -> getGameStateUseCase.execute(id)));
+    }
+
+    // SSE from the same broadcaster as the MVC adapter: STATE first, then every commit
+    @GetMapping(path = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<GameDto>> events(@PathVariable String id) {
+        Flux<GameEventDto> changes = Flux.create(sink -> {
+            GameEventBroadcaster.Subscription subscription = eventBroadcaster.subscribe(id, sink::next);
+            sink.onDispose(subscription::cancel);
+            Schedulers.boundedElastic().schedule(() -> {
+                try {
+                    GameDto current = getGameStateUseCase.execute(id);
+                    sink.next(new GameEventDto(GameEventDto.Type.STATE, current.getVersion(), current));
+                } catch (RuntimeException e) {
+                    sink.error(e);
+                }
+            });
+        }, FluxSink.OverflowStrategy.LATEST);
+        return changes.map(event -> ServerSentEvent.builder(event.getState())
+                .id(String.valueOf(event.getVersion()))
+                .event(event.getType().name())
+                .build());
+    }
+
+    @PostMapping("/{id}/actions/play")
+    public Mono<GameDto> play(@PathVariable String id, @RequestBody PlayRequest request) {
+        return Mono.fromFuture(() -> playCardUseCase.execute(id, request.playerId(), request.cardIndices(),
+                request.declaredColor(), request.expectedVersion()));
+    }
+
+    @PostMapping("/{id}/actions/draw")
+    public Mono<GameDto> draw(@PathVariable String id, @RequestBody DrawRequest request) {
+        return Mono.fromFuture(() -> drawCardUseCase.execute(id, request.playerId(), request.expectedVersion()));
+    }
+
+    @PostMapping("/{id}/actions/cpu-turn")
+    public Mono<GameDto> processCpuTurn(@PathVariable String id,
+            @RequestParam(required = false) Long expectedVersion) {
+        return Mono.fromFuture(() -> processCpuTurnUseCase.execute(id, expectedVersion));
+    }
+
+    @PostMapping("/{id}/actions/fast-forward")
+    public Mono<FastForwardDto> fastForward(@PathVariable String id,
+            @RequestParam(required = false) Long expectedVersion) {
+        return Mono.fromFuture(() -> fastForwardUseCase.execute(id, expectedVersion));
+    }
+
+    @PostMapping("/{id}/actions/batch")
+    public Mono<BatchResultDto> batch(@PathVariable String id, @RequestBody BatchRequest request) {
+        return Mono.fromFuture(() -> batchActionUseCase.execute(id, request.commands(), request.expectedVersion()));
+    }
+
+    @PostMapping("/actions/bulk")
+    public Mono<List<BulkResultDto>> bulk(@RequestBody BulkRequest request) {
+        return Mono.fromFuture(() -> bulkActionUseCase.execute(request.games()));
+    }
+
+    @ExceptionHandler(GameVersionConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleConflict(GameVersionConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                "message", e.getMessage(),
+                "gameId", e.getGameId(),
+                "expectedVersion", e.getExpectedVersion()));
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
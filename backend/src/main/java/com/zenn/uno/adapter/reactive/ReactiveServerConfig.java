@@ -0,0 +1,35 @@
+package com.zenn.uno.adapter.reactive;
+
+import com.zenn.uno.adapter.web.GameBinaryFormat;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.accept.HeaderContentTypeResolver;
+import org.springframework.web.reactive.accept.RequestedContentTypeResolverBuilder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfig implements WebFluxConfigurer {
+
+    // Only /state writes the binary format here; every other route answers a binary Accept with JSON
+    @Override
+    public void configureContentTypeResolver(RequestedContentTypeResolverBuilder builder) {
+        HeaderContentTypeResolver header = new HeaderContentTypeResolver();
+        builder.resolver(exchange -> GameBinaryFormat.withJsonFallback(header.resolveMediaTypes(exchange)));
+    }
+
+    // Tomcat is on the classpath for the MVC adapter and Boot would pick it for reactive mode too; use Netty's
+    // event loop when it is packaged (mvn -Preactive, and always in tests), otherwise Tomcat serves it
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "reactor.netty.http.server.HttpServer")
+    static class NettyServerConfig {
+
+        @Bean
+        public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+            return new NettyReactiveWebServerFactory();
+        }
+    }
+}
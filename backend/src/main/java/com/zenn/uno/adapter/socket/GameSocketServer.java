@@ -0,0 +1,472 @@
+package com.zenn.uno.adapter.socket;
+
+import com.zenn.uno.adapter.web.GameBinaryFormat;
+import com.zenn.uno.adapter.web.GameEventBroadcaster;
+import com.zenn.uno.adapter.web.dto.GameDto;
+import com.zenn.uno.application.input.DrawCardUseCase;
+import com.zenn.uno.application.input.GameVersionConflictException;
+import com.zenn.uno.application.input.GetGameStateUseCase;
+import com.zenn.uno.application.input.PlayCardUseCase;
+import com.zenn.uno.application.input.ProcessCpuTurnUseCase;
+import com.zenn.uno.application.input.StartGameUseCase;
+import com.zenn.uno.domain.model.Color;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binary game protocol over long-lived TCP connections, for machine clients
+ * (uno.socket.enabled=true, port uno.socket.port). One selector thread does
+ * all socket I/O; commands go to the same use cases as the REST API and
+ * complete on the game's single writer, so a client can pipeline any number
+ * of commands without waiting. Starts and subscribe's state read may block
+ * (commit and fsync, rehydration), so they run on a small worker pool instead.
+ * Replies carry the request id and may arrive out of order across games;
+ * commands for one game apply in sending order.
+ *
+ * Every frame: [int length of the rest][byte type][int requestId][payload]
+ *
+ * Requests:
+ *   'S' start      [long cpuDelayMs | -1]
+ *   'P' play       [UTF gameId][UTF playerId][byte n][byte index] * n [byte color | 0xFF][long expectedVersion | -1]
+ *   'D' draw       [UTF gameId][UTF playerId][long expectedVersion | -1]
+ *   'C' cpu-turn   [UTF gameId][long expectedVersion | -1]
+ *   'W' subscribe  [UTF gameId]
+ * Responses:
+ *   'R' reply      [GameBinaryFormat game]  (the resulting state; for subscribe the current one)
+ *   'E' event      [byte GameEventDto.Type][GameBinaryFormat game]  (requestId of the subscribe)
+ *   'V' conflict   [long expectedVersion]
+ *   'X' error      [UTF message]
+ *
+ * A client that stops reading is disconnected once MAX_PENDING_BYTES of
+ * output are queued for it. A client with MAX_IN_FLIGHT requests awaiting a
+ * reply is not read from until some complete, so TCP pushes back on it.
+ */
+@Component
+@ConditionalOnProperty(name = "uno.socket.enabled", havingValue = "true")
+public class GameSocketServer {
+    private static final Logger log = LoggerFactory.getLogger(GameSocketServer.class);
+
+    static final int START = 'S';
+    static final int PLAY = 'P';
+    static final int DRAW = 'D';
+    static final int CPU_TURN = 'C';
+    static final int SUBSCRIBE = 'W';
+    static final int REPLY = 'R';
+    static final int EVENT = 'E';
+    static final int CONFLICT = 'V';
+    static final int ERROR = 'X';
+
+    private static final int MAX_FRAME = 4096; // Requests are tiny
+    private static final int MAX_PENDING_BYTES = 1 << 20;
+    static final int MAX_IN_FLIGHT = 256; // Per connection
+    private static final int NONE = 0xFF;
+    private static final Color[] COLORS = Color.values();
+
+    private final StartGameUseCase startGameUseCase;
+    private final GetGameStateUseCase getGameStateUseCase;
+    private final PlayCardUseCase playCardUseCase;
+    private final DrawCardUseCase drawCardUseCase;
+    private final ProcessCpuTurnUseCase processCpuTurnUseCase;
+    private final GameEventBroadcaster eventBroadcaster;
+    // Blocking requests, kept off the selector thread
+    private final ExecutorService workers;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    // Connections with new output, handed from completing threads to the selector
+    private final Queue<Connection> flushRequests = new ConcurrentLinkedQueue<>();
+    private final Thread ioThread;
+    private volatile boolean running = true;
+
+    public GameSocketServer(StartGameUseCase startGameUseCase,
+            GetGameStateUseCase getGameStateUseCase,
+            PlayCardUseCase playCardUseCase,
+            DrawCardUseCase drawCardUseCase,
+            ProcessCpuTurnUseCase processCpuTurnUseCase,
+            GameEventBroadcaster eventBroadcaster,
+            @Value("${uno.socket.port:9090}") int port,
+            @Value("${uno.socket.worker-threads:4}") int workerThreads) throws IOException {
+        this.startGameUseCase = startGameUseCase;
+        this.getGameStateUseCase = getGameStateUseCase;
+        this.playCardUseCase = playCardUseCase;
+        this.drawCardUseCase = drawCardUseCase;
+        this.processCpuTurnUseCase = processCpuTurnUseCase;
+        this.eventBroadcaster = eventBroadcaster;
+        AtomicInteger counter = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerThreads, r -> {
+            Thread t = new Thread(r, "game-socket-worker-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port), 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        this.ioThread = new Thread(this::run, "game-socket-io");
+        ioThread.setDaemon(true);
+        ioThread.start();
+        log.info("Game socket protocol listening on port {}", port());
+    }
+
+    // The bound port (uno.socket.port=0 picks a free one)
+    int port() {
+        try {
+            return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        selector.wakeup();
+        try {
+            ioThread.join(1000);
+            serverChannel.close();
+            selector.close();
+        } catch (IOException | InterruptedException e) {
+            log.debug("Socket server shutdown: {}", e.toString());
+        }
+        workers.shutdownNow();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                selector.select();
+                Connection pending;
+                while ((pending = flushRequests.poll()) != null) {
+                    pending.flush();
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    Connection connection = (Connection) key.attachment();
+                    if (key.isReadable()) {
+                        connection.read();
+                    }
+                    if (key.isValid() && key.isWritable()) {
+                        connection.flush();
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Socket selector loop failed", e);
+            }
+        }
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof Connection connection) {
+                connection.close();
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        Connection connection = new Connection(channel);
+        connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+    }
+
+    // Parses one request and starts it; the reply is queued when it completes.
+    // Selector thread: the payload must be read here, before the buffer is reused
+    private void dispatch(Connection connection, int type, int requestId, DataInputStream in) {
+        CompletableFuture<GameDto> result;
+        try {
+            result = switch (type) {
+                case START -> {
+                    long delayMs = in.readLong();
+                    yield CompletableFuture.supplyAsync(() -> getGameStateUseCase.execute(
+                            startGameUseCase.execute(delayMs == -1 ? null : Duration.ofMillis(delayMs))), workers);
+                }
+                case PLAY -> {
+                    String gameId = in.readUTF();
+                    String playerId = in.readUTF();
+                    int count = in.readUnsignedByte();
+                    List<Integer> indices = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        indices.add(in.readUnsignedByte());
+                    }
+                    int color = in.readUnsignedByte();
+                    yield playCardUseCase.execute(gameId, playerId, indices,
+                            color == NONE ? null : COLORS[color], version(in.readLong()));
+                }
+                case DRAW -> drawCardUseCase.execute(in.readUTF(), in.readUTF(), version(in.readLong()));
+                case CPU_TURN -> processCpuTurnUseCase.execute(in.readUTF(), version(in.readLong()));
+                case SUBSCRIBE -> connection.subscribe(in.readUTF(), requestId);
+                default -> throw new IllegalArgumentException("Unknown request type: " + type);
+            };
+        } catch (IOException | RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((state, error) -> {
+            connection.send(error == null
+                    ? frame(REPLY, requestId, out -> GameBinaryFormat.write(state, out))
+                    : errorFrame(requestId, error));
+            connection.replied();
+        });
+    }
+
+    private static Long version(long value) {
+        return value < 0 ? null : value;
+    }
+
+    private static ByteBuffer errorFrame(int requestId, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof GameVersionConflictException e) {
+            return frame(CONFLICT, requestId, out -> out.writeLong(e.getExpectedVersion()));
+        }
+        String message = cause instanceof IOException ? "Malformed request" : String.valueOf(cause.getMessage());
+        return frame(ERROR, requestId, out -> out.writeUTF(message));
+    }
+
+    @FunctionalInterface
+    private interface Body {
+        void writeTo(DataOutputStream out) throws IOException;
+    }
+
+    private static ByteBuffer frame(int type, int requestId, Body body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(0); // Length, patched below
+            out.writeByte(type);
+            out.writeInt(requestId);
+            body.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Cannot happen with an in-memory buffer
+        }
+        ByteBuffer frame = ByteBuffer.wrap(bytes.toByteArray());
+        frame.putInt(0, frame.limit() - Integer.BYTES);
+        return frame;
+    }
+
+    private final class Connection {
+        private final SocketChannel channel;
+        private final ByteBuffer in = ByteBuffer.allocate(MAX_FRAME + Integer.BYTES);
+        private final ArrayDeque<ByteBuffer> out = new ArrayDeque<>(); // Guarded by itself
+        private final List<GameEventBroadcaster.Subscription> subscriptions = new ArrayList<>(); // Guarded by out
+        private final AtomicBoolean flushQueued = new AtomicBoolean();
+        private final AtomicInteger inFlight = new AtomicInteger(); // Requests dispatched, not yet replied to
+        private volatile boolean readPaused; // Written by the selector thread only
+        private SelectionKey key;
+        private int pendingBytes; // Guarded by out
+        private boolean closed; // Guarded by out
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        // Registers on the calling (selector) thread, so events of commands sent
+        // after the subscribe are not missed; the current state is read on a worker
+        CompletableFuture<GameDto> subscribe(String gameId, int requestId) {
+            GameEventBroadcaster.Subscription subscription = eventBroadcaster.subscribe(gameId,
+                    event -> send(frame(EVENT, requestId, o -> {
+                        o.writeByte(event.getType().ordinal());
+                        GameBinaryFormat.write(event.getState(), o);
+                    })));
+            synchronized (out) {
+                if (closed) {
+                    subscription.cancel();
+                } else {
+                    subscriptions.add(subscription);
+                }
+            }
+            // Subscribed first, so no change is missed; clients keep the highest version
+            return CompletableFuture.supplyAsync(() -> getGameStateUseCase.execute(gameId), workers)
+                    .whenComplete((state, error) -> {
+                        if (error != null) {
+                            subscription.cancel();
+                            synchronized (out) {
+                                subscriptions.remove(subscription);
+                            }
+                        }
+                    });
+        }
+
+        // Selector thread only
+        void read() {
+            try {
+                if (channel.read(in) < 0) {
+                    close();
+                    return;
+                }
+            } catch (IOException e) {
+                close();
+                return;
+            }
+            parse();
+        }
+
+        // Dispatches the complete frames in the buffer, up to MAX_IN_FLIGHT outstanding.
+        // Past that, stops reading; replied() has the selector resume once there is room
+        private void parse() {
+            in.flip();
+            while (in.remaining() >= Integer.BYTES) {
+                if (inFlight.get() >= MAX_IN_FLIGHT) {
+                    readPaused = true;
+                    if (inFlight.get() >= MAX_IN_FLIGHT) {
+                        break; // Else a reply raced the pause and saw it unset: go on
+                    }
+                    readPaused = false;
+                }
+                int length = in.getInt(in.position());
+                if (length < 5 || length > MAX_FRAME) {
+                    log.debug("Closing {}: bad frame length {}", channel, length);
+                    close();
+                    return;
+                }
+                if (in.remaining() < Integer.BYTES + length) {
+                    break;
+                }
+                int start = in.position() + Integer.BYTES;
+                int type = in.get(start) & 0xFF;
+                int requestId = in.getInt(start + 1);
+                DataInputStream payload = new DataInputStream(new ByteArrayInputStream(
+                        in.array(), start + 5, length - 5));
+                inFlight.incrementAndGet();
+                dispatch(this, type, requestId, payload);
+                in.position(start + length);
+            }
+            in.compact();
+            updateInterest();
+        }
+
+        // Any thread, after a request's reply was queued
+        void replied() {
+            if (inFlight.decrementAndGet() < MAX_IN_FLIGHT && readPaused) {
+                requestFlush(); // flush() resumes reading
+            }
+        }
+
+        // Any thread
+        void send(ByteBuffer frame) {
+            synchronized (out) {
+                if (closed) {
+                    return;
+                }
+                if (pendingBytes + frame.remaining() > MAX_PENDING_BYTES) {
+                    log.debug("Closing {}: client is not reading", channel);
+                    closeLater();
+                    return;
+                }
+                pendingBytes += frame.remaining();
+                out.addLast(frame);
+            }
+            requestFlush();
+        }
+
+        private void requestFlush() {
+            if (flushQueued.compareAndSet(false, true)) {
+                flushRequests.add(this);
+                selector.wakeup();
+            }
+        }
+
+        // Selector thread only
+        void flush() {
+            flushQueued.set(false);
+            if (readPaused && inFlight.get() < MAX_IN_FLIGHT && key.isValid()) {
+                readPaused = false;
+                parse(); // Frames already buffered get no OP_READ
+            }
+            synchronized (out) {
+                if (closed) {
+                    close();
+                    return;
+                }
+                try {
+                    while (!out.isEmpty()) {
+                        ByteBuffer next = out.peekFirst();
+                        int before = next.remaining();
+                        channel.write(next);
+                        pendingBytes -= before - next.remaining();
+                        if (next.hasRemaining()) {
+                            break; // Socket buffer full; OP_WRITE tells us when to go on
+                        }
+                        out.pollFirst();
+                    }
+                } catch (IOException e) {
+                    close();
+                    return;
+                }
+                updateInterest();
+            }
+        }
+
+        // Selector thread only
+        private void updateInterest() {
+            synchronized (out) {
+                if (!closed) {
+                    key.interestOps((readPaused ? 0 : SelectionKey.OP_READ)
+                            | (out.isEmpty() ? 0 : SelectionKey.OP_WRITE));
+                }
+            }
+        }
+
+        // Marks the connection dead; the selector thread closes the channel
+        private void closeLater() {
+            closed = true;
+            requestFlush();
+        }
+
+        // Selector thread only
+        void close() {
+            List<GameEventBroadcaster.Subscription> cancelled;
+            synchronized (out) {
+                closed = true;
+                out.clear();
+                cancelled = new ArrayList<>(subscriptions);
+                subscriptions.clear();
+            }
+            cancelled.forEach(GameEventBroadcaster.Subscription::cancel);
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.debug("Closing {}: {}", channel, e.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.zenn.uno.adapter.web;
+
+import com.zenn.uno.adapter.web.dto.FastForwardDto;
+import com.zenn.uno.adapter.web.dto.GameDto;
+import com.zenn.uno.adapter.web.dto.GameDto.PlayerDto;
+import com.zenn.uno.domain.model.Card;
+import com.zenn.uno.domain.model.Color;
+import com.zenn.uno.domain.model.Direction;
+import com.zenn.uno.domain.model.Game.GameState;
+import com.zenn.uno.domain.model.LastAction;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.http.MediaType;
+
+/**
+ * Compact binary form of the game responses, for native and bot clients
+ * (Accept: application/vnd.uno.game). Same content as the JSON, smaller and
+ * cheaper to produce: cards are their one-byte ids, enums are ordinals and
+ * players are fixed-width records followed by their strings.
+ *
+ * Game:   [tag 'G'][UTF id][long version][state][color|-1][topCard|-1][direction]
+ *         [currentPlayerIndex][winner index|-1][player count]
+ *         [handSize, flags(bit0 = cpu)] * players  [UTF id, UTF name] * players
+ *         [myHand count][card] * count
+ * FastForward: [tag 'F'][short action count][UTF playerId, type, card|-1] * count [Game]
+ *
+ * Counts and indices are unsigned bytes; a deck holds far fewer than 256 cards.
+ */
+public final class GameBinaryFormat {
+    public static final MediaType MEDIA_TYPE = new MediaType("application", "vnd.uno.game");
+
+    private static final int GAME = 'G';
+    private static final int FAST_FORWARD = 'F';
+    private static final int NONE = 0xFF;
+    private static final int CPU = 1;
+
+    private static final GameState[] STATES = GameState.values();
+    private static final Color[] COLORS = Color.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final LastAction.ActionType[] ACTION_TYPES = LastAction.ActionType.values();
+
+    private GameBinaryFormat() {
+    }
+
+    // Only an explicit request for the binary type; wildcards keep getting JSON
+    public static boolean isRequestedBy(String acceptHeader) {
+        return acceptHeader != null && MediaType.parseMediaTypes(acceptHeader).stream()
+                .anyMatch(MEDIA_TYPE::equalsTypeAndSubtype);
+    }
+
+    // Accepted types for content negotiation: asking for the binary format also
+    // accepts JSON, listed after it, so responses without a binary form
+    // (start, delta, batch, bulk) fall back to JSON instead of 406
+    public static List<MediaType> withJsonFallback(List<MediaType> accepted) {
+        boolean binary = accepted.stream().anyMatch(MEDIA_TYPE::equalsTypeAndSubtype);
+        if (!binary || accepted.stream().anyMatch(type -> type.includes(MediaType.APPLICATION_JSON))) {
+            return accepted;
+        }
+        List<MediaType> withJson = new ArrayList<>(accepted);
+        withJson.add(MediaType.APPLICATION_JSON);
+        return withJson;
+    }
+
+    // GameDto or FastForwardDto as a byte array
+    public static byte[] encode(Object value) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(buffer);
+        try {
+            if (value instanceof FastForwardDto result) {
+                write(result, out);
+            } else {
+                write((GameDto) value, out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Cannot happen with an in-memory buffer
+        }
+        return buffer.toByteArray();
+    }
+
+    public static void write(GameDto game, DataOutput out) throws IOException {
+        out.writeByte(GAME);
+        writeGame(game, out);
+    }
+
+    public static void write(FastForwardDto result, DataOutput out) throws IOException {
+        out.writeByte(FAST_FORWARD);
+        List<LastAction> actions = result.getActions();
+        out.writeShort(actions.size());
+        for (LastAction action : actions) {
+            out.writeUTF(action.getPlayerId());
+            out.writeByte(action.getType().ordinal());
+            writeCard(action.getCard(), out);
+        }
+        writeGame(result.getState(), out);
+    }
+
+    // Reads either response; the leading tag says which
+    public static Object read(DataInput in) throws IOException {
+        int tag = in.readUnsignedByte();
+        if (tag == GAME) {
+            return readGame(in);
+        }
+        if (tag != FAST_FORWARD) {
+            throw new IOException("Unknown binary game record: " + tag);
+        }
+        int count = in.readUnsignedShort();
+        List<LastAction> actions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String playerId = in.readUTF();
+            LastAction.ActionType type = ACTION_TYPES[in.readUnsignedByte()];
+            actions.add(new LastAction(playerId, type, readCard(in)));
+        }
+        return new FastForwardDto(actions, readGame(in));
+    }
+
+    private static void writeGame(GameDto game, DataOutput out) throws IOException {
+        List<PlayerDto> players = game.getPlayers();
+        out.writeUTF(game.getId());
+        out.writeLong(game.getVersion());
+        out.writeByte(game.getState().ordinal());
+        out.writeByte(game.getCurrentColor() == null ? NONE : game.getCurrentColor().ordinal());
+        writeCard(game.getTopCard(), out);
+        out.writeByte(game.getDirection().ordinal());
+        out.writeByte(game.getCurrentPlayerIndex());
+        out.writeByte(indexOf(players, game.getWinnerId()));
+
+        out.writeByte(players.size());
+        for (PlayerDto p : players) {
+            out.writeByte(p.getHandSize());
+            out.writeByte(p.isCpu() ? CPU : 0);
+        }
+        for (PlayerDto p : players) {
+            out.writeUTF(p.getId());
+            out.writeUTF(p.getName());
+        }
+
+        List<Card> hand = game.getMyHand();
+        out.writeByte(hand.size());
+        for (Card card : hand) {
+            out.writeByte(card.id());
+        }
+    }
+
+    private static GameDto readGame(DataInput in) throws IOException {
+        GameDto game = new GameDto();
+        game.setId(in.readUTF());
+        game.setVersion(in.readLong());
+        game.setState(STATES[in.readUnsignedByte()]);
+        int color = in.readUnsignedByte();
+        game.setCurrentColor(color == NONE ? null : COLORS[color]);
+        game.setTopCard(readCard(in));
+        game.setDirection(DIRECTIONS[in.readUnsignedByte()]);
+        game.setCurrentPlayerIndex(in.readUnsignedByte());
+        int winner = in.readUnsignedByte();
+
+        int count = in.readUnsignedByte();
+        List<PlayerDto> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            PlayerDto p = new PlayerDto();
+            p.setHandSize(in.readUnsignedByte());
+            p.setCpu((in.readUnsignedByte() & CPU) != 0);
+            players.add(p);
+        }
+        for (PlayerDto p : players) {
+            p.setId(in.readUTF());
+            p.setName(in.readUTF());
+        }
+        game.setPlayers(players);
+        game.setWinnerId(winner == NONE ? null : players.get(winner).getId());
+
+        int handSize = in.readUnsignedByte();
+        List<Card> hand = new ArrayList<>(handSize);
+        for (int i = 0; i < handSize; i++) {
+            hand.add(Card.of(in.readUnsignedByte()));
+        }
+        game.setMyHand(hand);
+        return game;
+    }
+
+    private static void writeCard(Card card, DataOutput out) throws IOException {
+        out.writeByte(card == null ? NONE : card.id());
+    }
+
+    private static Card readCard(DataInput in) throws IOException {
+        int code = in.readUnsignedByte();
+        return code == NONE ? null : Card.of(code);
+    }
+
+    private static int indexOf(List<PlayerDto> players, String playerId) {
+        for (int i = 0; playerId != null && i < players.size(); i++) {
+            if (playerId.equals(players.get(i).getId())) {
+                return i;
+            }
+        }
+        return NONE;
+    }
+}
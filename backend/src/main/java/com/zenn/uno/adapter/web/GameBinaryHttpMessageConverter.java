@@ -0,0 +1,45 @@
+package com.zenn.uno.adapter.web;
+
+import com.zenn.uno.adapter.web.dto.FastForwardDto;
+import com.zenn.uno.adapter.web.dto.GameDto;
+import java.io.DataInputStream;
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Serves GameDto / FastForwardDto responses as GameBinaryFormat when the client
+ * asks for application/vnd.uno.game. Registered after Jackson (GameWebConfig),
+ * so JSON stays the answer for missing or wildcard Accept headers, and for
+ * responses this converter cannot write (GameWebConfig's negotiation adds JSON).
+ */
+public class GameBinaryHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public GameBinaryHttpMessageConverter() {
+        super(GameBinaryFormat.MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == GameDto.class || clazz == FastForwardDto.class;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        Object value = GameBinaryFormat.read(new DataInputStream(inputMessage.getBody()));
+        if (!clazz.isInstance(value)) {
+            throw new HttpMessageNotReadableException("Expected " + clazz.getSimpleName(), inputMessage);
+        }
+        return value;
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        // Buffered so Content-Length is known and the body goes out in one write
+        byte[] body = GameBinaryFormat.encode(value);
+        outputMessage.getHeaders().setContentLength(body.length);
+        outputMessage.getBody().write(body);
+    }
+}
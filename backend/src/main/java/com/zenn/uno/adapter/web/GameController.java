@@ -1,77 +1,252 @@
 package com.zenn.uno.adapter.web;
 
+import com.zenn.uno.adapter.web.dto.BatchResultDto;
+import com.zenn.uno.adapter.web.dto.BulkResultDto;
+import com.zenn.uno.adapter.web.dto.FastForwardDto;
+import com.zenn.uno.adapter.web.dto.GameDeltaDto;
 import com.zenn.uno.adapter.web.dto.GameDto;
+import com.zenn.uno.adapter.web.dto.GameEventDto;
+import com.zenn.uno.application.input.BatchActionUseCase;
+import com.zenn.uno.application.input.BulkActionUseCase;
 import com.zenn.uno.application.input.DrawCardUseCase;
+import com.zenn.uno.application.input.FastForwardUseCase;
+import com.zenn.uno.application.input.GameVersionConflictException;
 import com.zenn.uno.application.input.GetGameStateUseCase;
 import com.zenn.uno.application.input.PlayCardUseCase;
 import com.zenn.uno.application.input.ProcessCpuTurnUseCase;
 import com.zenn.uno.application.input.StartGameUseCase;
 import com.zenn.uno.domain.model.Color;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/games")
 @CrossOrigin(origins = "*") // Allow frontend dev server
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET) // See ReactiveGameController
 public class GameController {
+    private static final long MAX_LONG_POLL_MILLIS = 60_000;
+
     private final StartGameUseCase startGameUseCase;
     private final GetGameStateUseCase getGameStateUseCase;
     private final PlayCardUseCase playCardUseCase;
     private final DrawCardUseCase drawCardUseCase;
     private final ProcessCpuTurnUseCase processCpuTurnUseCase;
+    private final FastForwardUseCase fastForwardUseCase;
+    private final BatchActionUseCase batchActionUseCase;
+    private final BulkActionUseCase bulkActionUseCase;
+    private final GameEventBroadcaster eventBroadcaster;
+    private final GameStateHistory stateHistory;
+    private final GameStateWaiters stateWaiters;
+    private final GameStateJsonCache stateCache;
 
     public GameController(StartGameUseCase startGameUseCase,
             GetGameStateUseCase getGameStateUseCase,
             PlayCardUseCase playCardUseCase,
             DrawCardUseCase drawCardUseCase,
-            ProcessCpuTurnUseCase processCpuTurnUseCase) {
+            ProcessCpuTurnUseCase processCpuTurnUseCase,
+            FastForwardUseCase fastForwardUseCase,
+            BatchActionUseCase batchActionUseCase,
+            BulkActionUseCase bulkActionUseCase,
+            GameEventBroadcaster eventBroadcaster,
+            GameStateHistory stateHistory,
+            GameStateWaiters stateWaiters,
+            GameStateJsonCache stateCache) {
         this.startGameUseCase = startGameUseCase;
         this.getGameStateUseCase = getGameStateUseCase;
         this.playCardUseCase = playCardUseCase;
         this.drawCardUseCase = drawCardUseCase;
         this.processCpuTurnUseCase = processCpuTurnUseCase;
+        this.fastForwardUseCase = fastForwardUseCase;
+        this.batchActionUseCase = batchActionUseCase;
+        this.bulkActionUseCase = bulkActionUseCase;
+        this.eventBroadcaster = eventBroadcaster;
+        this.stateHistory = stateHistory;
+        this.stateWaiters = stateWaiters;
+        this.stateCache = stateCache;
     }
 
+    // cpuDelayMs: optional per-game pause before each server-driven CPU move, 0..60000 (clamped);
+    // 0 means no pause, omitted means the server default
     @PostMapping("/start")
-    public Map<String, String> start() {
-        String gameId = startGameUseCase.execute();
+    public Map<String, String> start(@RequestParam(required = false) Long cpuDelayMs) {
+        String gameId = startGameUseCase.execute(cpuDelayMs == null ? null : Duration.ofMillis(cpuDelayMs));
         return Map.of("gameId", gameId);
     }
 
+    // ETag is the game version: an unchanged game answers 304 without building a GameDto.
+    // Otherwise the JSON snapshot taken when this version was committed is served from the cache.
+    // Accept: application/vnd.uno.game selects GameBinaryFormat instead.
     @GetMapping("/{id}/state")
-    public GameDto getState(@PathVariable String id) {
-        return getGameStateUseCase.execute(id);
+    public ResponseEntity<?> getState(@PathVariable String id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest request) {
+        long version = getGameStateUseCase.currentVersion(id);
+        boolean binary = GameBinaryFormat.isRequestedBy(accept);
+        if (request.checkNotModified(binary ? StateEtags.binary(version) : StateEtags.json(version))) {
+            return null; // 304 already set up by checkNotModified
+        }
+        if (binary) {
+            GameDto dto = getGameStateUseCase.execute(id);
+            return ResponseEntity.ok().eTag(StateEtags.binary(dto.getVersion())).varyBy(HttpHeaders.ACCEPT)
+                    .contentType(GameBinaryFormat.MEDIA_TYPE).body(dto);
+        }
+        GameStateJsonCache.CachedState cached = stateCache.get(id, version);
+        if (cached == null) {
+            // Not cached (e.g. restored after a restart): snapshot the published game here.
+            // May be a newer version than the lookup above; the ETag follows the body
+            cached = getGameStateUseCase.render(id, stateCache::snapshot);
+        }
+        return ResponseEntity.ok().eTag(StateEtags.json(cached.version())).varyBy(HttpHeaders.ACCEPT)
+                .contentType(MediaType.APPLICATION_JSON).body(cached.json());
+    }
+
+    @GetMapping("/state-cache/stats")
+    public GameStateJsonCache.Stats getStateCacheStats() {
+        return stateCache.getStats();
+    }
+
+    // Long poll: wait (up to timeoutMs) until the game is past version waitAfter; 304 on timeout
+    @GetMapping(path = "/{id}/state", params = "waitAfter")
+    public DeferredResult<ResponseEntity<GameDto>> awaitState(
+            @PathVariable String id,
+            @RequestParam long waitAfter,
+            @RequestParam(defaultValue = "30000") long timeoutMs) {
+        DeferredResult<ResponseEntity<GameDto>> result = new DeferredResult<>(
+                Math.min(Math.max(timeoutMs, 0), MAX_LONG_POLL_MILLIS),
+                ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+        result.onCompletion(stateWaiters.await(id, waitAfter, dto -> result.setResult(withEtag(dto))));
+        // Registered first, so a commit racing this check still completes the waiter
+        if (getGameStateUseCase.currentVersion(id) > waitAfter) {
+            result.setResult(withEtag(getGameStateUseCase.execute(id)));
+        }
+        return result;
+    }
+
+    private static ResponseEntity<GameDto> withEtag(GameDto dto) {
+        return ResponseEntity.ok().eTag(StateEtags.json(dto.getVersion())).body(dto);
+    }
+
+    // Only what changed since the version the client last saw (full snapshot if too far behind)
+    @GetMapping("/{id}/delta")
+    public GameDeltaDto getDelta(@PathVariable String id, @RequestParam long since) {
+        return stateHistory.delta(id, since, getGameStateUseCase.currentVersion(id),
+                () -> getGameStateUseCase.execute(id));
+    }
+
+    // Server-Sent Events: current state, then every committed change.
+    // Subscribing before reading the state means no change is missed, but a
+    // change may arrive before the STATE event; clients keep the highest version.
+    @GetMapping(path = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable String id) throws IOException {
+        SseEmitter emitter = new SseEmitter(0L); // Never time out; closed by client or on send failure
+        GameEventBroadcaster.Subscription subscription = eventBroadcaster.subscribe(id,
+                event -> emitter.send(toSse(event)));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(e -> subscription.cancel());
+        subscription.onStalled(emitter::complete); // Client stopped reading; it reconnects and gets STATE
+
+        try {
+            GameDto current = getGameStateUseCase.execute(id);
+            emitter.send(toSse(new GameEventDto(GameEventDto.Type.STATE, current.getVersion(), current)));
+        } catch (RuntimeException e) {
+            subscription.cancel();
+            throw e;
+        }
+        return emitter;
+    }
+
+    private SseEmitter.SseEventBuilder toSse(GameEventDto event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.getVersion()))
+                .name(event.getType().name())
+                .data(event.getState(), MediaType.APPLICATION_JSON);
     }
 
+    // Actions complete asynchronously on the game's single writer
     @PostMapping("/{id}/actions/play")
-    public GameDto play(
+    public CompletableFuture<GameDto> play(
             @PathVariable String id,
             @RequestBody PlayRequest request) {
-        return playCardUseCase.execute(id, request.playerId(), request.cardIndices(), request.declaredColor());
+        return playCardUseCase.execute(id, request.playerId(), request.cardIndices(), request.declaredColor(),
+                request.expectedVersion());
     }
 
     @PostMapping("/{id}/actions/draw")
-    public GameDto draw(
+    public CompletableFuture<GameDto> draw(
             @PathVariable String id,
             @RequestBody DrawRequest request) {
-        return drawCardUseCase.execute(id, request.playerId());
+        return drawCardUseCase.execute(id, request.playerId(), request.expectedVersion());
     }
 
     @PostMapping("/{id}/actions/cpu-turn")
-    public GameDto processCpuTurn(@PathVariable String id) {
-        return processCpuTurnUseCase.execute(id);
+    public CompletableFuture<GameDto> processCpuTurn(
+            @PathVariable String id,
+            @RequestParam(required = false) Long expectedVersion) {
+        return processCpuTurnUseCase.execute(id, expectedVersion);
+    }
+
+    // Runs all CPU turns up to the human's next move in one request
+    @PostMapping("/{id}/actions/fast-forward")
+    public CompletableFuture<FastForwardDto> fastForward(
+            @PathVariable String id,
+            @RequestParam(required = false) Long expectedVersion) {
+        return fastForwardUseCase.execute(id, expectedVersion);
+    }
+
+    // Ordered play/draw/cpu-turn commands in one request; stops at the first failing command
+    @PostMapping("/{id}/actions/batch")
+    public CompletableFuture<BatchResultDto> batch(@PathVariable String id, @RequestBody BatchRequest request) {
+        return batchActionUseCase.execute(id, request.commands(), request.expectedVersion());
+    }
+
+    // Batches for many games at once, applied in parallel; one compact result per entry, in order
+    @PostMapping("/actions/bulk")
+    public CompletableFuture<java.util.List<BulkResultDto>> bulk(@RequestBody BulkRequest request) {
+        return bulkActionUseCase.execute(request.games());
+    }
+
+    // Stale expectedVersion -> 409 so the client can refetch and retry
+    @ExceptionHandler(GameVersionConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleConflict(GameVersionConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                "message", e.getMessage(),
+                "gameId", e.getGameId(),
+                "expectedVersion", e.getExpectedVersion()));
+    }
+
+    // expectedVersion is optional; when set, the action fails with 409 if the game has moved on
+    public record PlayRequest(String playerId, java.util.List<Integer> cardIndices, Color declaredColor,
+            Long expectedVersion) {
+    }
+
+    public record DrawRequest(String playerId, Long expectedVersion) {
     }
 
-    public record PlayRequest(String playerId, java.util.List<Integer> cardIndices, Color declaredColor) {
+    public record BatchRequest(java.util.List<BatchActionUseCase.Command> commands, Long expectedVersion) {
     }
 
-    public record DrawRequest(String playerId) {
+    public record BulkRequest(java.util.List<BulkActionUseCase.GameBatch> games) {
     }
 }
@@ -0,0 +1,235 @@
+package com.zenn.uno.adapter.web;
+
+import com.zenn.uno.adapter.web.dto.GameEventDto;
+import com.zenn.uno.application.output.GameEventPublisher;
+import com.zenn.uno.domain.model.Game;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fans committed game changes out to live subscribers (SSE etc.).
+ *
+ * publish() runs on the game's writer thread and only builds the event once
+ * and enqueues it; delivery happens on a separate push pool. Each subscriber
+ * has a small bounded queue: when a slow consumer falls behind, its oldest
+ * events are dropped (every event carries the full state, so the newest one
+ * supersedes them) and turn processing never waits on a socket.
+ *
+ * A send that blocks longer than sendTimeout (a client that stopped reading)
+ * gets its subscriber dropped: no more events are queued for it, the pool
+ * gets a stand-in thread until the stuck send returns, and then the
+ * subscription's stall handler (e.g. completing the SseEmitter) runs.
+ * So a few slow clients cannot hold every push thread.
+ */
+@Component
+public class GameEventBroadcaster implements GameEventPublisher {
+    private static final Logger log = LoggerFactory.getLogger(GameEventBroadcaster.class);
+    private static final int MAX_STAND_IN_THREADS = 64; // Past this, stuck sends do cost push threads
+    // Subscription.sendStarted besides a send's start time
+    private static final long IDLE = 0;
+    private static final long STALLED = Long.MIN_VALUE;
+    private static final long STALLED_WITH_STAND_IN = Long.MIN_VALUE + 1;
+
+    @FunctionalInterface
+    public interface Listener {
+        void onEvent(GameEventDto event) throws Exception;
+    }
+
+    private final Map<String, List<Subscription>> subscribers = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor pushPool;
+    private final ScheduledExecutorService watchdog;
+    private final int queueCapacity;
+    private final long sendTimeoutNanos;
+    private int standIns; // Guarded by pushPool
+
+    public GameEventBroadcaster(
+            @Value("${uno.events.push-threads:4}") int pushThreads,
+            @Value("${uno.events.queue-capacity:16}") int queueCapacity,
+            @Value("${uno.events.send-timeout:5s}") Duration sendTimeout) {
+        this.queueCapacity = queueCapacity;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        AtomicInteger counter = new AtomicInteger();
+        this.pushPool = new ThreadPoolExecutor(pushThreads, pushThreads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread t = new Thread(r, "game-event-push-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "game-event-watchdog");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(10, sendTimeout.toMillis() / 4);
+        watchdog.scheduleWithFixedDelay(this::dropStalled, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void publish(Game game) {
+        List<Subscription> subs = subscribers.get(game.getId());
+        if (subs == null || subs.isEmpty()) {
+            return; // Nobody listening: don't even build the DTO
+        }
+        GameEventDto event = GameEventDto.from(game);
+        for (Subscription sub : subs) {
+            sub.offer(event);
+        }
+    }
+
+    public Subscription subscribe(String gameId, Listener listener) {
+        Subscription sub = new Subscription(gameId, listener);
+        subscribers.compute(gameId, (id, subs) -> {
+            List<Subscription> list = subs != null ? subs : new CopyOnWriteArrayList<>();
+            list.add(sub);
+            return list;
+        });
+        return sub;
+    }
+
+    // Watchdog thread: finds sends running past the timeout
+    private void dropStalled() {
+        long now = System.nanoTime();
+        for (List<Subscription> subs : subscribers.values()) {
+            for (Subscription sub : subs) {
+                long started = sub.sendStarted.get();
+                if (started == IDLE || started == STALLED || started == STALLED_WITH_STAND_IN
+                        || now - started <= sendTimeoutNanos) {
+                    continue;
+                }
+                // Added first: once the mark is set, the stuck send may return and take it away
+                boolean standIn = addStandIn();
+                if (sub.sendStarted.compareAndSet(started, standIn ? STALLED_WITH_STAND_IN : STALLED)) {
+                    log.debug("Dropping subscriber of game {}: send blocked for over {} ms", sub.gameId,
+                            TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+                    sub.cancel();
+                } else if (standIn) {
+                    removeStandIn(); // The send returned meanwhile
+                }
+            }
+        }
+    }
+
+    private boolean addStandIn() {
+        synchronized (pushPool) {
+            if (standIns >= MAX_STAND_IN_THREADS) {
+                return false;
+            }
+            standIns++;
+            pushPool.setMaximumPoolSize(pushPool.getMaximumPoolSize() + 1);
+            pushPool.setCorePoolSize(pushPool.getCorePoolSize() + 1); // Starts a thread for queued drains
+            return true;
+        }
+    }
+
+    private void removeStandIn() {
+        synchronized (pushPool) {
+            standIns--;
+            pushPool.setCorePoolSize(pushPool.getCorePoolSize() - 1);
+            pushPool.setMaximumPoolSize(pushPool.getMaximumPoolSize() - 1);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+        pushPool.shutdownNow();
+    }
+
+    public final class Subscription {
+        private final String gameId;
+        private final Listener listener;
+        private final ArrayDeque<GameEventDto> queue = new ArrayDeque<>();
+        // nanoTime of the send in progress, IDLE, or the watchdog's STALLED mark
+        private final AtomicLong sendStarted = new AtomicLong(IDLE);
+        private boolean draining; // Guarded by queue
+        private volatile boolean cancelled;
+        private volatile Runnable stallHandler = () -> { };
+
+        private Subscription(String gameId, Listener listener) {
+            this.gameId = gameId;
+            this.listener = listener;
+        }
+
+        public void offer(GameEventDto event) {
+            if (cancelled) {
+                return;
+            }
+            synchronized (queue) {
+                if (queue.size() >= queueCapacity) {
+                    queue.pollFirst(); // Drop oldest; the newest state wins
+                }
+                queue.addLast(event);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            pushPool.execute(this::drain);
+        }
+
+        private void drain() {
+            while (!cancelled) {
+                GameEventDto next;
+                synchronized (queue) {
+                    next = queue.pollFirst();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                long started = System.nanoTime();
+                sendStarted.set(started);
+                try {
+                    listener.onEvent(next);
+                } catch (Exception e) {
+                    log.debug("Dropping subscriber of game {}: {}", gameId, e.toString());
+                    cancel();
+                }
+                if (!sendStarted.compareAndSet(started, IDLE)) {
+                    afterStall(); // The watchdog gave up on this send and already cancelled us
+                    return;
+                }
+            }
+        }
+
+        private void afterStall() {
+            if (sendStarted.get() == STALLED_WITH_STAND_IN) {
+                removeStandIn();
+            }
+            try {
+                stallHandler.run();
+            } catch (RuntimeException e) {
+                log.debug("Stall handler for game {} failed: {}", gameId, e.toString());
+            }
+        }
+
+        // Runs on a push thread once a send that blocked past the timeout returns
+        public void onStalled(Runnable handler) {
+            this.stallHandler = handler;
+        }
+
+        public void cancel() {
+            cancelled = true;
+            subscribers.computeIfPresent(gameId, (id, subs) -> {
+                subs.remove(this);
+                return subs.isEmpty() ? null : subs;
+            });
+        }
+    }
+}
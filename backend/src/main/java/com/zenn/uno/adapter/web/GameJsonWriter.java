@@ -0,0 +1,235 @@
+package com.zenn.uno.adapter.web;
+
+import com.zenn.uno.domain.model.Card;
+import com.zenn.uno.domain.model.CardType;
+import com.zenn.uno.domain.model.Color;
+import com.zenn.uno.domain.model.Direction;
+import com.zenn.uno.domain.model.Game;
+import com.zenn.uno.domain.model.Player;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Writes the /state JSON (same fields, order and nulls as GameDto through
+ * Jackson) straight from the Game into a pooled scratch buffer.
+ * No DTOs, lists or strings are created; enum names and field keys are
+ * pre-encoded. The only allocation per call is the exact-size result.
+ *
+ * The pool is a fixed array of slots picked by thread hash, not a
+ * ThreadLocal: with virtual threads every request has its own thread, so a
+ * ThreadLocal would allocate a fresh buffer per call and never reuse it.
+ */
+final class GameJsonWriter {
+    private static final byte[] NULL = ascii("null");
+    private static final byte[][] STATES = names(Game.GameState.values());
+    private static final byte[][] COLORS = names(Color.values());
+    private static final byte[][] TYPES = names(CardType.values());
+    private static final byte[][] DIRECTIONS = names(Direction.values());
+
+    private static final int POOL_SLOTS = 64; // Power of two
+    private static final int MAX_POOLED_BYTES = 64 * 1024; // Larger buffers are left to the GC
+    private static final AtomicReferenceArray<GameJsonWriter> POOL = new AtomicReferenceArray<>(POOL_SLOTS);
+
+    private byte[] buf = new byte[2048];
+    private int pos;
+
+    private GameJsonWriter() {
+    }
+
+    static byte[] toBytes(Game game) {
+        int slot = Thread.currentThread().hashCode() & (POOL_SLOTS - 1);
+        GameJsonWriter w = POOL.getAndSet(slot, null); // Taken: a thread on the same slot makes its own
+        if (w == null) {
+            w = new GameJsonWriter();
+        }
+        w.pos = 0;
+        try {
+            w.writeGame(game);
+            return Arrays.copyOf(w.buf, w.pos);
+        } finally {
+            if (w.buf.length <= MAX_POOLED_BYTES) {
+                POOL.set(slot, w);
+            }
+        }
+    }
+
+    private void writeGame(Game game) {
+        raw("{\"id\":");
+        string(game.getId());
+        raw(",\"version\":");
+        number(game.getVersion());
+        raw(",\"state\":");
+        name(STATES, game.getState());
+        raw(",\"currentColor\":");
+        name(COLORS, game.getCurrentColor());
+        raw(",\"topCard\":");
+        card(game.getTopCard());
+        raw(",\"direction\":");
+        name(DIRECTIONS, game.getTurnManager().getDirection());
+        raw(",\"currentPlayerIndex\":");
+        number(game.getTurnManager().getCurrentIndex());
+        raw(",\"winnerId\":");
+        string(game.getWinnerId());
+
+        raw(",\"players\":[");
+        List<Player> players = game.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            Player p = players.get(i);
+            if (i > 0) {
+                put((byte) ',');
+            }
+            raw("{\"id\":");
+            string(p.getId());
+            raw(",\"name\":");
+            string(p.getName());
+            raw(",\"handSize\":");
+            number(p.getHandSize());
+            raw(p.isCpu() ? ",\"cpu\":true}" : ",\"cpu\":false}");
+        }
+
+        // Same view as GameDto: P0 is always the human
+        raw("],\"myHand\":[");
+        List<Card> hand = players.get(0).getHand();
+        for (int i = 0; i < hand.size(); i++) {
+            if (i > 0) {
+                put((byte) ',');
+            }
+            card(hand.get(i));
+        }
+        raw("]}");
+    }
+
+    private void card(Card card) {
+        if (card == null) {
+            bytes(NULL);
+            return;
+        }
+        raw("{\"color\":");
+        name(COLORS, card.getColor());
+        raw(",\"type\":");
+        name(TYPES, card.getType());
+        raw(",\"number\":");
+        if (card.getNumber() == null) {
+            bytes(NULL);
+        } else {
+            number(card.getNumber());
+        }
+        raw(card.isWild() ? ",\"wild\":true}" : ",\"wild\":false}");
+    }
+
+    private void name(byte[][] table, Enum<?> value) {
+        bytes(value == null ? NULL : table[value.ordinal()]);
+    }
+
+    // JSON string with the escapes Jackson uses, encoded as UTF-8
+    private void string(String s) {
+        if (s == null) {
+            bytes(NULL);
+            return;
+        }
+        ensure(s.length() * 6 + 2);
+        buf[pos++] = '"';
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                buf[pos++] = '\\';
+                buf[pos++] = (byte) c;
+            } else if (c < 0x20) {
+                escapeControl(c);
+            } else if (c < 0x80) {
+                buf[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xC0 | (c >> 6));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length()
+                    && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                buf[pos++] = (byte) (0xF0 | (cp >> 18));
+                buf[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                buf[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (cp & 0x3F));
+            } else {
+                buf[pos++] = (byte) (0xE0 | (c >> 12));
+                buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        buf[pos++] = '"';
+    }
+
+    private void escapeControl(char c) {
+        buf[pos++] = '\\';
+        switch (c) {
+            case '\n' -> buf[pos++] = 'n';
+            case '\r' -> buf[pos++] = 'r';
+            case '\t' -> buf[pos++] = 't';
+            case '\b' -> buf[pos++] = 'b';
+            case '\f' -> buf[pos++] = 'f';
+            default -> {
+                buf[pos++] = 'u';
+                buf[pos++] = '0';
+                buf[pos++] = '0';
+                buf[pos++] = (byte) "0123456789ABCDEF".charAt(c >> 4);
+                buf[pos++] = (byte) "0123456789ABCDEF".charAt(c & 0xF);
+            }
+        }
+    }
+
+    private void number(long v) {
+        ensure(20);
+        if (v < 0) {
+            buf[pos++] = '-';
+            v = -v;
+        }
+        int start = pos;
+        do {
+            buf[pos++] = (byte) ('0' + v % 10);
+            v /= 10;
+        } while (v > 0);
+        // Digits were written least significant first
+        for (int i = start, j = pos - 1; i < j; i++, j--) {
+            byte t = buf[i];
+            buf[i] = buf[j];
+            buf[j] = t;
+        }
+    }
+
+    // Field keys and punctuation: always ASCII string constants
+    private void raw(String ascii) {
+        ensure(ascii.length());
+        for (int i = 0; i < ascii.length(); i++) {
+            buf[pos++] = (byte) ascii.charAt(i);
+        }
+    }
+
+    private void bytes(byte[] b) {
+        ensure(b.length);
+        System.arraycopy(b, 0, buf, pos, b.length);
+        pos += b.length;
+    }
+
+    private void put(byte b) {
+        ensure(1);
+        buf[pos++] = b;
+    }
+
+    private void ensure(int extra) {
+        if (pos + extra > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + extra));
+        }
+    }
+
+    private static byte[][] names(Enum<?>[] values) {
+        byte[][] table = new byte[values.length][];
+        for (Enum<?> v : values) {
+            table[v.ordinal()] = ascii("\"" + v.name() + "\"");
+        }
+        return table;
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,82 @@
+package com.zenn.uno.adapter.web;
+
+import com.zenn.uno.adapter.web.dto.GameDeltaDto;
+import com.zenn.uno.adapter.web.dto.GameDto;
+import com.zenn.uno.application.output.GameEventPublisher;
+import com.zenn.uno.domain.model.Game;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the last few committed client views of each game, keyed by version,
+ * so a client can ask for "what changed since version N" (GameDeltaDto).
+ * Only games someone has asked a delta for are tracked: the first request
+ * gets a full snapshot, and from then on every commit is recorded on the
+ * writer thread, so each snapshot is consistent. Only the most recently
+ * active of those games are kept.
+ */
+@Component
+public class GameStateHistory implements GameEventPublisher {
+    private final int depth;
+    private final Map<String, ArrayDeque<GameDto>> history;
+
+    public GameStateHistory(
+            @Value("${uno.delta.history-depth:16}") int depth,
+            @Value("${uno.delta.max-games:10000}") int maxGames) {
+        this.depth = depth;
+        this.history = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ArrayDeque<GameDto>> eldest) {
+                return size() > maxGames;
+            }
+        });
+    }
+
+    @Override
+    public void publish(Game game) {
+        ArrayDeque<GameDto> versions = history.get(game.getId());
+        if (versions == null) {
+            return; // No delta reader: nothing to build
+        }
+        GameDto snapshot = GameDto.from(game);
+        synchronized (versions) {
+            if (versions.size() >= depth) {
+                versions.pollFirst();
+            }
+            versions.addLast(snapshot);
+        }
+    }
+
+    // Changes from sinceVersion to currentVersion, diffed between recorded snapshots.
+    // A full snapshot (from current) if either end is not recorded, e.g. on the first request
+    public GameDeltaDto delta(String gameId, long sinceVersion, long currentVersion, Supplier<GameDto> current) {
+        ArrayDeque<GameDto> versions = history.computeIfAbsent(gameId, id -> new ArrayDeque<>());
+        synchronized (versions) {
+            GameDto latest = versions.peekLast();
+            if (latest != null && latest.getVersion() == currentVersion) {
+                for (GameDto base : versions) {
+                    if (base.getVersion() == sinceVersion) {
+                        return GameDeltaDto.between(base, latest);
+                    }
+                }
+            }
+        }
+        // Read after tracking started, so any later commit is recorded by publish
+        GameDto snapshot = current.get();
+        synchronized (versions) {
+            GameDto latest = versions.peekLast();
+            if (latest == null || latest.getVersion() < snapshot.getVersion()) {
+                if (versions.size() >= depth) {
+                    versions.pollFirst();
+                }
+                versions.addLast(snapshot);
+            }
+        }
+        return GameDeltaDto.fullSnapshot(sinceVersion, snapshot);
+    }
+}
@@ -0,0 +1,70 @@
+package com.zenn.uno.adapter.web;
+
+import com.zenn.uno.application.output.GameEventPublisher;
+import com.zenn.uno.domain.model.Game;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serialized /state JSON for the latest version of each recently active game.
+ * The JSON is encoded with GameJsonWriter on the writer thread at commit time,
+ * so the bytes behind a version (and its ETag) never change. Players,
+ * spectators and retries asking for that version share the one encoding.
+ */
+@Component
+public class GameStateJsonCache implements GameEventPublisher {
+    private final Map<String, CachedState> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    public GameStateJsonCache(@Value("${uno.state-cache.max-games:10000}") int maxGames) {
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedState> eldest) {
+                return size() > maxGames;
+            }
+        });
+    }
+
+    @Override
+    public void publish(Game game) {
+        snapshot(game);
+    }
+
+    // Cached JSON for exactly this version, or null
+    public CachedState get(String gameId, long version) {
+        CachedState e = entries.get(gameId);
+        if (e == null || e.version() != version) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        bytesSaved.addAndGet(e.json().length);
+        return e;
+    }
+
+    // Encodes the game and caches it unless a newer version is already cached.
+    // Only for published games (committed, or from GameRepository.findById), never mid-command
+    public CachedState snapshot(Game game) {
+        CachedState fresh = new CachedState(game.getVersion(), GameJsonWriter.toBytes(game));
+        entries.merge(game.getId(), fresh, (old, e) -> old.version() > e.version() ? old : e);
+        return fresh;
+    }
+
+    public Stats getStats() {
+        long h = hits.get();
+        long m = misses.get();
+        return new Stats(h, m, h + m == 0 ? 0 : (double) h / (h + m), bytesSaved.get(), entries.size());
+    }
+
+    public record Stats(long hits, long misses, double hitRate, long bytesSaved, int cachedGames) {
+    }
+
+    public record CachedState(long version, byte[] json) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.zenn.uno.adapter.web;
+
+import com.zenn.uno.adapter.web.dto.GameDto;
+import com.zenn.uno.application.output.GameEventPublisher;
+import com.zenn.uno.domain.model.Game;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Long-poll support for /state: requests parked until the game passes a
+ * given version, completed from the commit path without holding a thread.
+ * Framework-neutral; the MVC and reactive adapters wrap it in DeferredResult / Mono.
+ */
+@Component
+public class GameStateWaiters implements GameEventPublisher {
+    private final Map<String, List<Waiter>> waiters = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(Game game) {
+        List<Waiter> list = waiters.get(game.getId());
+        if (list == null || list.isEmpty()) {
+            return;
+        }
+        GameDto dto = null;
+        for (Waiter w : list) {
+            // remove() succeeds once, so each waiter fires at most once
+            if (game.getVersion() > w.afterVersion() && list.remove(w)) {
+                if (dto == null) {
+                    dto = GameDto.from(game);
+                }
+                w.onChange().accept(dto);
+            }
+        }
+    }
+
+    // Calls onChange once the game commits a version above afterVersion; run the returned handle to give up
+    public Runnable await(String gameId, long afterVersion, Consumer<GameDto> onChange) {
+        Waiter waiter = new Waiter(afterVersion, onChange);
+        waiters.compute(gameId, (id, list) -> {
+            List<Waiter> l = list != null ? list : new CopyOnWriteArrayList<>();
+            l.add(waiter);
+            return l;
+        });
+        return () -> waiters.computeIfPresent(gameId, (id, list) -> {
+            list.remove(waiter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private record Waiter(long afterVersion, Consumer<GameDto> onChange) {
+    }
+}
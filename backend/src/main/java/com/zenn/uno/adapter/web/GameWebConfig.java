@@ -0,0 +1,27 @@
+package com.zenn.uno.adapter.web;
+
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.accept.HeaderContentNegotiationStrategy;
+import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class GameWebConfig implements WebMvcConfigurer {
+
+    // Appended, not a converter bean: beans go in front of Jackson and would win for Accept: */*
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new GameBinaryHttpMessageConverter());
+    }
+
+    // The converter only knows GameDto and FastForwardDto; everything else answers a binary Accept with JSON
+    @Override
+    public void configureContentNegotiation(ContentNegotiationConfigurer configurer) {
+        HeaderContentNegotiationStrategy header = new HeaderContentNegotiationStrategy();
+        configurer.strategies(List.of(request -> GameBinaryFormat.withJsonFallback(header.resolveMediaTypes(request))));
+    }
+}
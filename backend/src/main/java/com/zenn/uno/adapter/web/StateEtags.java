@@ -0,0 +1,34 @@
+package com.zenn.uno.adapter.web;
+
+// /state ETags: the game version, with a suffix per representation
+public final class StateEtags {
+
+    private StateEtags() {
+    }
+
+    public static String json(long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static String binary(long version) {
+        return "\"" + version + "-bin\"";
+    }
+
+    // If-None-Match check for adapters without Spring's checkNotModified:
+    // "*", a comma-separated list, and weak (W/) tags all count
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
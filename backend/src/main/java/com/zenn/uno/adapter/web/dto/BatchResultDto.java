@@ -0,0 +1,47 @@
+package com.zenn.uno.adapter.web.dto;
+
+import com.zenn.uno.domain.model.LastAction;
+import java.util.List;
+
+// Outcome of a batch of commands on one game: one result per command run, then the final state
+public class BatchResultDto {
+    private List<CommandResult> results; // Stops at the first failure
+    private GameDto state;
+
+    public BatchResultDto(List<CommandResult> results, GameDto state) {
+        this.results = results;
+        this.state = state;
+    }
+
+    public List<CommandResult> getResults() {
+        return results;
+    }
+
+    public GameDto getState() {
+        return state;
+    }
+
+    public static class CommandResult {
+        private boolean ok;
+        private LastAction action; // What the command did; null on failure
+        private String error;
+
+        public CommandResult(boolean ok, LastAction action, String error) {
+            this.ok = ok;
+            this.action = action;
+            this.error = error;
+        }
+
+        public boolean isOk() {
+            return ok;
+        }
+
+        public LastAction getAction() {
+            return action;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
+}
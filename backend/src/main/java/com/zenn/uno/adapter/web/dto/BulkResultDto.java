@@ -0,0 +1,55 @@
+package com.zenn.uno.adapter.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Per-game outcome of a bulk request: just enough for a bot to decide its next move
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkResultDto {
+    public enum Status {
+        OK, // Every command applied
+        STOPPED, // A command failed; the ones before it were applied
+        CONFLICT, // expectedVersion was stale; nothing applied
+        ERROR // Game not found or an invalid batch; nothing applied
+    }
+
+    private String gameId;
+    private Status status;
+    private int applied; // Commands applied and committed
+    private Long version; // Version after the batch; null if the game could not be read
+    private Integer currentPlayerIndex;
+    private String error;
+
+    public BulkResultDto(String gameId, Status status, int applied, Long version, Integer currentPlayerIndex,
+            String error) {
+        this.gameId = gameId;
+        this.status = status;
+        this.applied = applied;
+        this.version = version;
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.error = error;
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public int getApplied() {
+        return applied;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public Integer getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,23 @@
+package com.zenn.uno.adapter.web.dto;
+
+import com.zenn.uno.domain.model.LastAction;
+import java.util.List;
+
+// Result of running CPU turns until the human moves (or the game ends)
+public class FastForwardDto {
+    private List<LastAction> actions; // One per CPU turn, in order
+    private GameDto state;
+
+    public FastForwardDto(List<LastAction> actions, GameDto state) {
+        this.actions = actions;
+        this.state = state;
+    }
+
+    public List<LastAction> getActions() {
+        return actions;
+    }
+
+    public GameDto getState() {
+        return state;
+    }
+}
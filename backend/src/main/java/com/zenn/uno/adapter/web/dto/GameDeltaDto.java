@@ -0,0 +1,180 @@
+package com.zenn.uno.adapter.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.zenn.uno.domain.model.Card;
+import com.zenn.uno.domain.model.Color;
+import com.zenn.uno.domain.model.Direction;
+import com.zenn.uno.domain.model.Game.GameState;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * What changed between two versions of a game, as seen by the client.
+ * Only changed fields are set (nulls are omitted from JSON); a field that
+ * became null (topCard, winnerId) is named in cleared instead. If the client
+ * is too far behind, full is true and snapshot carries the whole GameDto.
+ *
+ * Hand changes are usually "removed these indices, appended these cards";
+ * when the hand was replaced (e.g. SWAP) myHand carries the full new hand.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GameDeltaDto {
+    private String id;
+    private long fromVersion;
+    private long toVersion;
+    private boolean full;
+    private GameDto snapshot;
+
+    private GameState state;
+    private Color currentColor;
+    private Card topCard;
+    private Direction direction;
+    private Integer currentPlayerIndex;
+    private String winnerId;
+    private List<String> cleared; // Fields that changed to null
+    private Map<String, Integer> handSizes; // playerId -> new size, changed players only
+    private List<Integer> handRemoved; // Indices into the old hand, ascending
+    private List<Card> handAdded; // Appended after the removals
+    private List<Card> myHand;
+
+    public static GameDeltaDto fullSnapshot(long fromVersion, GameDto to) {
+        GameDeltaDto delta = new GameDeltaDto();
+        delta.id = to.getId();
+        delta.fromVersion = fromVersion;
+        delta.toVersion = to.getVersion();
+        delta.full = true;
+        delta.snapshot = to;
+        return delta;
+    }
+
+    public static GameDeltaDto between(GameDto from, GameDto to) {
+        GameDeltaDto delta = new GameDeltaDto();
+        delta.id = to.getId();
+        delta.fromVersion = from.getVersion();
+        delta.toVersion = to.getVersion();
+
+        delta.state = changed(from.getState(), to.getState());
+        delta.currentColor = changed(from.getCurrentColor(), to.getCurrentColor());
+        delta.topCard = changed(from.getTopCard(), to.getTopCard());
+        delta.direction = changed(from.getDirection(), to.getDirection());
+        delta.currentPlayerIndex = changed(from.getCurrentPlayerIndex(), to.getCurrentPlayerIndex());
+        delta.winnerId = changed(from.getWinnerId(), to.getWinnerId());
+        List<String> cleared = new ArrayList<>(2);
+        if (from.getTopCard() != null && to.getTopCard() == null) {
+            cleared.add("topCard");
+        }
+        if (from.getWinnerId() != null && to.getWinnerId() == null) {
+            cleared.add("winnerId");
+        }
+        delta.cleared = cleared.isEmpty() ? null : cleared;
+
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        for (int i = 0; i < to.getPlayers().size(); i++) {
+            GameDto.PlayerDto p = to.getPlayers().get(i);
+            if (i >= from.getPlayers().size() || from.getPlayers().get(i).getHandSize() != p.getHandSize()) {
+                sizes.put(p.getId(), p.getHandSize());
+            }
+        }
+        delta.handSizes = sizes.isEmpty() ? null : sizes;
+
+        diffHand(delta, from.getMyHand(), to.getMyHand());
+        return delta;
+    }
+
+    // Match old cards in order against the new hand; whatever is left over at
+    // the end of the new hand was appended. If that takes more entries than the
+    // hand itself (e.g. after a SWAP), send the whole hand instead.
+    private static void diffHand(GameDeltaDto delta, List<Card> oldHand, List<Card> newHand) {
+        List<Integer> removed = new ArrayList<>();
+        int j = 0;
+        for (int i = 0; i < oldHand.size(); i++) {
+            if (j < newHand.size() && oldHand.get(i).equals(newHand.get(j))) {
+                j++;
+            } else {
+                removed.add(i);
+            }
+        }
+        int added = newHand.size() - j;
+        if (removed.size() + added > newHand.size()) {
+            delta.myHand = newHand;
+            return;
+        }
+        if (!removed.isEmpty()) {
+            delta.handRemoved = removed;
+        }
+        if (j < newHand.size()) {
+            delta.handAdded = new ArrayList<>(newHand.subList(j, newHand.size()));
+        }
+    }
+
+    private static <T> T changed(T before, T after) {
+        return Objects.equals(before, after) ? null : after;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getFromVersion() {
+        return fromVersion;
+    }
+
+    public long getToVersion() {
+        return toVersion;
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    public GameDto getSnapshot() {
+        return snapshot;
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    public Color getCurrentColor() {
+        return currentColor;
+    }
+
+    public Card getTopCard() {
+        return topCard;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public Integer getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    public String getWinnerId() {
+        return winnerId;
+    }
+
+    public List<String> getCleared() {
+        return cleared;
+    }
+
+    public Map<String, Integer> getHandSizes() {
+        return handSizes;
+    }
+
+    public List<Integer> getHandRemoved() {
+        return handRemoved;
+    }
+
+    public List<Card> getHandAdded() {
+        return handAdded;
+    }
+
+    public List<Card> getMyHand() {
+        return myHand;
+    }
+}
@@ -6,6 +6,7 @@ import com.zenn.uno.domain.model.Direction;
 import com.zenn.uno.domain.model.Game;
 import com.zenn.uno.domain.model.Game.GameState;
 import com.zenn.uno.domain.model.Player;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.List;
@@ -14,6 +15,7 @@ import java.util.stream.Collectors;
 //フロントエンドに渡すデータ
 public class GameDto {
     private String id;
+    private long version;
     private GameState state;
     private Color currentColor;
     private Card topCard;
@@ -31,6 +33,14 @@ public class GameDto {
         this.id = id;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public GameState getState() {
         return state;
     }
@@ -137,6 +147,7 @@ public class GameDto {
     public static GameDto from(Game game) {
         GameDto dto = new GameDto();
         dto.setId(game.getId());
+        dto.setVersion(game.getVersion());
         dto.setState(game.getState());
         dto.setCurrentColor(game.getCurrentColor());
         dto.setTopCard(game.getTopCard());
@@ -155,7 +166,8 @@ public class GameDto {
 
         // Assuming Request always comes from P0 (Human) for single player view
         // In a real multi-user app we'd pass requester ID. Here P0 is always Human.
-        dto.setMyHand(game.getPlayers().get(0).getHand());
+        // Copy: the DTO may be serialized after the game has moved on
+        dto.setMyHand(new ArrayList<>(game.getPlayers().get(0).getHand()));
 
         return dto;
     }
@@ -0,0 +1,59 @@
+package com.zenn.uno.adapter.web.dto;
+
+import com.zenn.uno.domain.model.Game;
+import com.zenn.uno.domain.model.LastAction;
+
+// One pushed state change: what happened plus the resulting state
+public class GameEventDto {
+    public enum Type {
+        STATE, // Initial snapshot on subscribe
+        CARD_PLAYED,
+        CARD_DRAWN,
+        TURN_ADVANCED,
+        GAME_FINISHED
+    }
+
+    private final Type type;
+    private final long version;
+    private final GameDto state;
+
+    public GameEventDto(Type type, long version, GameDto state) {
+        this.type = type;
+        this.version = version;
+        this.state = state;
+    }
+
+    public static GameEventDto from(Game game) {
+        return new GameEventDto(typeOf(game), game.getVersion(), GameDto.from(game));
+    }
+
+    private static Type typeOf(Game game) {
+        if (game.getState() == Game.GameState.FINISHED) {
+            return Type.GAME_FINISHED;
+        }
+        LastAction lastAction = game.getLastAction();
+        if (lastAction == null) {
+            return Type.TURN_ADVANCED;
+        }
+        switch (lastAction.getType()) {
+            case PLAY:
+                return Type.CARD_PLAYED;
+            case DRAW:
+                return Type.CARD_DRAWN;
+            default:
+                return Type.TURN_ADVANCED;
+        }
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public GameDto getState() {
+        return state;
+    }
+}
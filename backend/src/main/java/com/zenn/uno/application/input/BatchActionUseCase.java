@@ -0,0 +1,118 @@
+package com.zenn.uno.application.input;
+
+import com.zenn.uno.adapter.web.dto.BatchResultDto;
+import com.zenn.uno.adapter.web.dto.BatchResultDto.CommandResult;
+import com.zenn.uno.adapter.web.dto.GameDto;
+import com.zenn.uno.application.output.GameRepository;
+import com.zenn.uno.domain.model.Color;
+import com.zenn.uno.domain.model.Game;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+
+import org.springframework.stereotype.Service;
+
+// Applies an ordered list of commands to one game with one lookup and one commit
+@Service
+public class BatchActionUseCase {
+    public static final int MAX_COMMANDS = 500;
+
+    public enum CommandType {
+        PLAY,
+        DRAW,
+        CPU_TURN
+    }
+
+    // One command; playerId/cardIndices/declaredColor as in the single-action endpoints
+    public record Command(CommandType type, String playerId, List<Integer> cardIndices, Color declaredColor) {
+    }
+
+    private final GameRepository repository;
+    private final PlayCardUseCase playCardUseCase;
+    private final DrawCardUseCase drawCardUseCase;
+    private final ProcessCpuTurnUseCase processCpuTurnUseCase;
+    private final GameCommandExecutor commandExecutor;
+    private final GameCommitService commitService;
+    private final CpuTurnScheduler cpuTurnScheduler;
+
+    public BatchActionUseCase(GameRepository repository, PlayCardUseCase playCardUseCase,
+            DrawCardUseCase drawCardUseCase, ProcessCpuTurnUseCase processCpuTurnUseCase,
+            GameCommandExecutor commandExecutor, GameCommitService commitService,
+            CpuTurnScheduler cpuTurnScheduler) {
+        this.repository = repository;
+        this.playCardUseCase = playCardUseCase;
+        this.drawCardUseCase = drawCardUseCase;
+        this.processCpuTurnUseCase = processCpuTurnUseCase;
+        this.commandExecutor = commandExecutor;
+        this.commitService = commitService;
+        this.cpuTurnScheduler = cpuTurnScheduler;
+    }
+
+    public CompletableFuture<BatchResultDto> execute(String gameId, List<Command> commands, Long expectedVersion) {
+        return submit(gameId, commands, expectedVersion,
+                (results, game) -> new BatchResultDto(results, GameDto.from(game)));
+    }
+
+    // Runs the batch on the game's writer and renders the outcome with view (still on the writer)
+    <T> CompletableFuture<T> submit(String gameId, List<Command> commands, Long expectedVersion,
+            BiFunction<List<CommandResult>, Game, T> view) {
+        if (commands == null || commands.isEmpty() || commands.size() > MAX_COMMANDS) {
+            throw new IllegalArgumentException("A batch needs 1-" + MAX_COMMANDS + " commands");
+        }
+        return commandExecutor.submit(gameId, () -> run(gameId, commands, expectedVersion, view));
+    }
+
+    private <T> T run(String gameId, List<Command> commands, Long expectedVersion,
+            BiFunction<List<CommandResult>, Game, T> view) {
+        Game game = repository.findById(gameId) // Never changed: each command copies it
+                .orElseThrow(() -> new IllegalArgumentException("Game not found"));
+        GameVersionConflictException.verify(game, expectedVersion);
+        long baseVersion = game.getVersion();
+
+        // Each command runs on its own copy, so a failing command (whatever it throws)
+        // is dropped whole while the earlier commands' effects are committed
+        List<CommandResult> results = new ArrayList<>();
+        boolean changed = false;
+        for (Command command : commands) {
+            Game attempt = game.copy();
+            try {
+                apply(attempt, command);
+            } catch (RuntimeException e) {
+                results.add(new CommandResult(false, null,
+                        e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()));
+                break;
+            }
+            game = attempt;
+            changed = true;
+            results.add(new CommandResult(true, game.getLastAction(), null));
+        }
+
+        if (changed) {
+            commitService.commit(game, baseVersion);
+            cpuTurnScheduler.scheduleIfCpuTurn(game);
+        }
+        return view.apply(results, game);
+    }
+
+    private void apply(Game game, Command command) {
+        if (command.type() == null) {
+            throw new IllegalArgumentException("Command type is required");
+        }
+        switch (command.type()) {
+            case PLAY:
+                playCardUseCase.apply(game, command.playerId(), command.cardIndices(), command.declaredColor());
+                break;
+            case DRAW:
+                drawCardUseCase.apply(game, command.playerId());
+                break;
+            case CPU_TURN:
+                if (!processCpuTurnUseCase.apply(game)) {
+                    throw new IllegalStateException("Not a CPU's turn");
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown command: " + command.type());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.zenn.uno.application.input;
+
+import com.zenn.uno.adapter.web.dto.BatchResultDto.CommandResult;
+import com.zenn.uno.adapter.web.dto.BulkResultDto;
+import com.zenn.uno.adapter.web.dto.BulkResultDto.Status;
+import com.zenn.uno.domain.model.Game;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Batches for many games in one request. Each game's batch goes to that
+ * game's writer, so different games run in parallel across the worker pool
+ * while commands for one game (even repeated entries) keep their order.
+ */
+@Service
+public class BulkActionUseCase {
+    public static final int MAX_GAMES = 5000;
+
+    // One game's share of a bulk request
+    public record GameBatch(String gameId, List<BatchActionUseCase.Command> commands, Long expectedVersion) {
+    }
+
+    private final BatchActionUseCase batchActionUseCase;
+
+    public BulkActionUseCase(BatchActionUseCase batchActionUseCase) {
+        this.batchActionUseCase = batchActionUseCase;
+    }
+
+    // Results are in request order
+    public CompletableFuture<List<BulkResultDto>> execute(List<GameBatch> batches) {
+        if (batches == null || batches.isEmpty() || batches.size() > MAX_GAMES) {
+            throw new IllegalArgumentException("A bulk request needs 1-" + MAX_GAMES + " games");
+        }
+        List<CompletableFuture<BulkResultDto>> pending = new ArrayList<>(batches.size());
+        for (GameBatch batch : batches) {
+            pending.add(submit(batch));
+        }
+        return CompletableFuture.allOf(pending.toArray(CompletableFuture<?>[]::new))
+                .thenApply(ignored -> pending.stream().map(CompletableFuture::join).toList());
+    }
+
+    private CompletableFuture<BulkResultDto> submit(GameBatch batch) {
+        String gameId = batch == null ? null : batch.gameId();
+        CompletableFuture<BulkResultDto> result;
+        try {
+            validate(batch);
+            result = batchActionUseCase.submit(gameId, batch.commands(), batch.expectedVersion(),
+                    (results, game) -> summarize(gameId, results, game));
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(failure(gameId, Status.ERROR, e));
+        }
+        return result.exceptionally(e -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            return failure(gameId,
+                    cause instanceof GameVersionConflictException ? Status.CONFLICT : Status.ERROR, cause);
+        });
+    }
+
+    // A malformed entry fails alone with ERROR instead of the whole request
+    private static void validate(GameBatch batch) {
+        if (batch == null || batch.gameId() == null || batch.gameId().isBlank()) {
+            throw new IllegalArgumentException("gameId is required");
+        }
+        if (batch.commands() != null && batch.commands().stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Commands must not be null");
+        }
+    }
+
+    private static BulkResultDto summarize(String gameId, List<CommandResult> results, Game game) {
+        CommandResult last = results.get(results.size() - 1);
+        int applied = last.isOk() ? results.size() : results.size() - 1;
+        return new BulkResultDto(gameId, last.isOk() ? Status.OK : Status.STOPPED, applied, game.getVersion(),
+                game.getTurnManager().getCurrentIndex(), last.getError());
+    }
+
+    private static BulkResultDto failure(String gameId, Status status, Throwable e) {
+        return new BulkResultDto(gameId, status, 0, null, null, e.getMessage());
+    }
+}
@@ -0,0 +1,110 @@
+package com.zenn.uno.application.input;
+
+import com.zenn.uno.application.output.GameRepository;
+import com.zenn.uno.domain.model.Game;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Advances CPU turns on the server.
+ * Whenever a command leaves a CPU player to move, the game is put on a shared
+ * timer wheel; when it fires, the CPU turn runs on the game's single writer
+ * (GameCommandExecutor's bounded pool) and the next CPU turn is scheduled.
+ * Games that come into memory without a command (restored at startup,
+ * rehydrated from disk) are picked up too, and a turn that fails is retried
+ * with backoff. Clients only observe the results.
+ */
+@Component
+public class CpuTurnScheduler {
+    private static final Logger log = LoggerFactory.getLogger(CpuTurnScheduler.class);
+    private static final int MAX_RETRIES = 5;
+    private static final long RETRY_MIN_DELAY_MILLIS = 100; // Games without a CPU delay still back off
+
+    private final GameRepository repository;
+    private final TurnProcessingService turnService;
+    private final GameCommandExecutor commandExecutor;
+    private final GameCommitService commitService;
+    private final boolean enabled;
+    private final long defaultDelayMillis;
+    private final TimerWheel wheel;
+    // At most one pending CPU turn per game
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public CpuTurnScheduler(GameRepository repository, TurnProcessingService turnService,
+            GameCommandExecutor commandExecutor, GameCommitService commitService,
+            @Value("${uno.cpu.scheduler.enabled:true}") boolean enabled,
+            @Value("${uno.cpu.turn-delay:3s}") Duration defaultDelay,
+            @Value("${uno.cpu.scheduler.tick:50ms}") Duration tick) {
+        this.repository = repository;
+        this.turnService = turnService;
+        this.commandExecutor = commandExecutor;
+        this.commitService = commitService;
+        this.enabled = enabled;
+        this.defaultDelayMillis = defaultDelay.toMillis();
+        this.wheel = enabled ? new TimerWheel("cpu-turn-timer", tick.toMillis(), 512) : null;
+    }
+
+    // Games already in memory before any command ran, and games rehydrated later
+    @PostConstruct
+    public void resumeLoadedGames() {
+        if (enabled) {
+            repository.addLoadListener(this::scheduleIfCpuTurn);
+            repository.forEachLoaded(this::scheduleIfCpuTurn);
+        }
+    }
+
+    // Call after committing a command; no-op unless a CPU is now to move
+    public void scheduleIfCpuTurn(Game game) {
+        if (!enabled || game.getState() != Game.GameState.PLAYING
+                || !game.getTurnManager().getCurrentPlayer().isCpu()) {
+            return;
+        }
+        long delay = game.getCpuTurnDelayMillis() >= 0 ? game.getCpuTurnDelayMillis() : defaultDelayMillis;
+        schedule(game.getId(), delay, 0);
+    }
+
+    private void schedule(String gameId, long delayMillis, int attempt) {
+        if (pending.add(gameId)) {
+            wheel.schedule(() -> runCpuTurn(gameId, delayMillis, attempt), delayMillis);
+        }
+    }
+
+    private void runCpuTurn(String gameId, long delayMillis, int attempt) {
+        pending.remove(gameId);
+        commandExecutor.submit(gameId, () -> {
+            Game game = repository.findForUpdate(gameId).orElse(null);
+            if (game == null) {
+                return null; // Evicted or deleted meanwhile
+            }
+            long baseVersion = game.getVersion();
+            if (turnService.processSingleCpuTurn(game)) {
+                commitService.commit(game, baseVersion);
+            }
+            scheduleIfCpuTurn(game);
+            return null;
+        }).exceptionally(e -> {
+            // Nothing was committed, so the CPU would otherwise never move again
+            if (attempt < MAX_RETRIES) {
+                log.warn("Scheduled CPU turn failed for game {} (attempt {}), retrying", gameId, attempt + 1, e);
+                schedule(gameId, Math.max(delayMillis * 2, RETRY_MIN_DELAY_MILLIS), attempt + 1);
+            } else {
+                log.error("Scheduled CPU turn failed for game {} {} times, giving up", gameId, attempt + 1, e);
+            }
+            return null;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (wheel != null) {
+            wheel.stop();
+        }
+    }
+}
@@ -4,7 +4,9 @@ import com.zenn.uno.adapter.web.dto.GameDto;
 import com.zenn.uno.application.output.GameRepository;
 import com.zenn.uno.domain.model.Card;
 import com.zenn.uno.domain.model.Game;
+import com.zenn.uno.domain.model.LastAction;
 import com.zenn.uno.domain.model.Player;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Service;
 
@@ -12,14 +14,37 @@ import org.springframework.stereotype.Service;
 public class DrawCardUseCase {
     private final GameRepository repository;
 
-    public DrawCardUseCase(GameRepository repository) {
+    private final GameCommandExecutor commandExecutor;
+    private final GameCommitService commitService;
+    private final CpuTurnScheduler cpuTurnScheduler;
+
+    public DrawCardUseCase(GameRepository repository, GameCommandExecutor commandExecutor,
+            GameCommitService commitService, CpuTurnScheduler cpuTurnScheduler) {
         this.repository = repository;
+        this.commandExecutor = commandExecutor;
+        this.commitService = commitService;
+        this.cpuTurnScheduler = cpuTurnScheduler;
+    }
+
+    public CompletableFuture<GameDto> execute(String gameId, String playerId, Long expectedVersion) {
+        return commandExecutor.submit(gameId, () -> draw(gameId, playerId, expectedVersion));
     }
 
-    public GameDto execute(String gameId, String playerId) {
-        Game game = repository.findById(gameId)
+    private GameDto draw(String gameId, String playerId, Long expectedVersion) {
+        Game game = repository.findForUpdate(gameId)
                 .orElseThrow(() -> new IllegalArgumentException("Game not found"));
+        GameVersionConflictException.verify(game, expectedVersion);
+        long baseVersion = game.getVersion();
 
+        apply(game, playerId);
+        commitService.commit(game, baseVersion);
+        cpuTurnScheduler.scheduleIfCpuTurn(game);
+
+        return GameDto.from(game);
+    }
+
+    // Validates and draws on an already loaded game; the caller commits
+    void apply(Game game, String playerId) {
         if (game.getState() != Game.GameState.PLAYING) {
             throw new IllegalStateException("Game is not active");
         }
@@ -31,15 +56,11 @@ public class DrawCardUseCase {
         }
 
         // Draw Logic
-        if (game.getDeck().isEmpty()) {
-            game.reshuffle();
-        }
-        if (game.getDeck().isEmpty()) {
+        Card drawn = game.drawCard(currentPlayer);
+        if (drawn == null) {
             throw new IllegalStateException("Deck empty");
         }
-
-        Card drawn = game.getDeck().draw();
-        currentPlayer.addCard(drawn);
+        game.setLastAction(new LastAction(currentPlayer.getId(), LastAction.ActionType.DRAW, null));
 
         // Rule Check: Can play immediately?
         // If NO -> Next Turn.
@@ -57,6 +78,7 @@ public class DrawCardUseCase {
 
         if (!game.canPlay(drawn)) {
             // Cannot play -> Turn Ends
+            currentPlayer.recordTurn();
             game.getTurnManager().nextTurn();
             // And Process CPUs - REMOVED for manual turn handling
             // turnService.processCpuTurns(game);
@@ -79,9 +101,6 @@ public class DrawCardUseCase {
             // Given constraints "API（増やさない）", maybe Draw acts as Pass if called again? No.
             // Let's assume: If playable, user IS expected to play it. Or we just don't
             // support Pass for playable card.
-            repository.save(game);
         }
-
-        return GameDto.from(game);
     }
 }
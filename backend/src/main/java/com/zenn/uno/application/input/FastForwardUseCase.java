@@ -0,0 +1,58 @@
+package com.zenn.uno.application.input;
+
+import com.zenn.uno.adapter.web.dto.FastForwardDto;
+import com.zenn.uno.adapter.web.dto.GameDto;
+import com.zenn.uno.application.output.GameRepository;
+import com.zenn.uno.domain.model.Game;
+import com.zenn.uno.domain.model.LastAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.stereotype.Service;
+
+// Plays every pending CPU turn in one command, until a human is to move or the game ends
+@Service
+public class FastForwardUseCase {
+    private static final int MAX_TURNS = 1000; // Safety net against a game that never returns to a human
+
+    private final GameRepository repository;
+    private final TurnProcessingService turnService;
+    private final GameCommandExecutor commandExecutor;
+    private final GameCommitService commitService;
+    private final CpuTurnScheduler cpuTurnScheduler;
+
+    public FastForwardUseCase(GameRepository repository, TurnProcessingService turnService,
+            GameCommandExecutor commandExecutor, GameCommitService commitService,
+            CpuTurnScheduler cpuTurnScheduler) {
+        this.repository = repository;
+        this.turnService = turnService;
+        this.commandExecutor = commandExecutor;
+        this.commitService = commitService;
+        this.cpuTurnScheduler = cpuTurnScheduler;
+    }
+
+    public CompletableFuture<FastForwardDto> execute(String gameId, Long expectedVersion) {
+        return commandExecutor.submit(gameId, () -> fastForward(gameId, expectedVersion));
+    }
+
+    private FastForwardDto fastForward(String gameId, Long expectedVersion) {
+        Game game = repository.findForUpdate(gameId)
+                .orElseThrow(() -> new IllegalArgumentException("Game not found"));
+        GameVersionConflictException.verify(game, expectedVersion);
+        long baseVersion = game.getVersion();
+
+        List<LastAction> actions = new ArrayList<>();
+        while (actions.size() < MAX_TURNS && turnService.processSingleCpuTurn(game)) {
+            actions.add(game.getLastAction());
+        }
+
+        // One commit for the whole run
+        if (!actions.isEmpty()) {
+            commitService.commit(game, baseVersion);
+            cpuTurnScheduler.scheduleIfCpuTurn(game);
+        }
+
+        return new FastForwardDto(actions, GameDto.from(game));
+    }
+}
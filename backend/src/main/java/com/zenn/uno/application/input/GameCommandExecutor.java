@@ -0,0 +1,72 @@
+package com.zenn.uno.application.input;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single writer per game.
+ * Commands for one game run strictly in submission order, one at a time;
+ * commands for different games run in parallel on a shared worker pool.
+ * Each game's queue is just a chain of futures, so a waiting command does not
+ * hold a thread.
+ *
+ * With spring.threads.virtual.enabled=true on Java 21 (mvn -Pjava21) each
+ * command runs on its own virtual thread instead of the fixed pool, so a
+ * command that blocks (e.g. on a durable save) does not pin a worker.
+ */
+@Component
+public class GameCommandExecutor {
+    private final Map<String, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+    private final Executor workers;
+
+    public GameCommandExecutor(@Value("${uno.executor.threads:0}") int threads, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            this.workers = new VirtualThreadTaskExecutor("game-worker-");
+            return;
+        }
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(size, r -> {
+            Thread t = new Thread(r, "game-worker-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public <T> CompletableFuture<T> submit(String gameId, Supplier<T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<Void> tail = tails.compute(gameId, (id, previous) -> {
+            CompletableFuture<Void> base = previous != null ? previous : CompletableFuture.completedFuture(null);
+            return base.handleAsync((ignored, error) -> {
+                try {
+                    result.complete(command.get());
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+                return null;
+            }, workers);
+        });
+        // Drop the chain once it drains so idle games cost nothing here
+        tail.whenComplete((ignored, error) -> tails.remove(gameId, tail));
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (workers instanceof ExecutorService pool) {
+            pool.shutdown();
+        }
+    }
+}
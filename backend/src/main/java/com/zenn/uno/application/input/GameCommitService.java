@@ -0,0 +1,29 @@
+package com.zenn.uno.application.input;
+
+import com.zenn.uno.application.output.GameEventPublisher;
+import com.zenn.uno.application.output.GameRepository;
+import com.zenn.uno.domain.model.Game;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+// Last step of every command: conditional save, then tell subscribers
+@Service
+public class GameCommitService {
+    private final GameRepository repository;
+    private final List<GameEventPublisher> eventPublishers;
+
+    public GameCommitService(GameRepository repository, List<GameEventPublisher> eventPublishers) {
+        this.repository = repository;
+        this.eventPublishers = eventPublishers;
+    }
+
+    public void commit(Game game, long baseVersion) {
+        if (!repository.compareAndSave(game, baseVersion)) {
+            throw new GameVersionConflictException(game.getId(), baseVersion);
+        }
+        for (GameEventPublisher publisher : eventPublishers) {
+            publisher.publish(game);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.zenn.uno.application.input;
+
+import com.zenn.uno.domain.model.Game;
+
+// Thrown when a command was based on a game version that is no longer current
+public class GameVersionConflictException extends IllegalStateException {
+    private static final long serialVersionUID = 1L;
+
+    private final String gameId;
+    private final long expectedVersion;
+
+    public GameVersionConflictException(String gameId, long expectedVersion) {
+        super("Game " + gameId + " is no longer at version " + expectedVersion);
+        this.gameId = gameId;
+        this.expectedVersion = expectedVersion;
+    }
+
+    // Fail fast if the client sent an expected version and the game has moved on
+    static void verify(Game game, Long expectedVersion) {
+        if (expectedVersion != null && expectedVersion != game.getVersion()) {
+            throw new GameVersionConflictException(game.getId(), expectedVersion);
+        }
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+}
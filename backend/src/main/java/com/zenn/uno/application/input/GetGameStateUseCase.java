@@ -3,6 +3,7 @@ package com.zenn.uno.application.input;
 import com.zenn.uno.application.output.GameRepository;
 import com.zenn.uno.adapter.web.dto.GameDto;
 import com.zenn.uno.domain.model.Game;
+import java.util.function.Function;
 
 import org.springframework.stereotype.Service;
 
@@ -19,4 +20,18 @@ public class GetGameStateUseCase {
                 .orElseThrow(() -> new IllegalArgumentException("Game not found"));
         return GameDto.from(game);
     }
+
+    // Lets an adapter render the game itself (e.g. straight to JSON bytes) instead of via GameDto.
+    // Runs on the calling thread: the stored game is a published copy that commands never change
+    public <T> T render(String gameId, Function<Game, T> renderer) {
+        return renderer.apply(repository.findById(gameId)
+                .orElseThrow(() -> new IllegalArgumentException("Game not found")));
+    }
+
+    // Cheap freshness check: no DTO is built
+    public long currentVersion(String gameId) {
+        return repository.findById(gameId)
+                .map(Game::getVersion)
+                .orElseThrow(() -> new IllegalArgumentException("Game not found"));
+    }
 }
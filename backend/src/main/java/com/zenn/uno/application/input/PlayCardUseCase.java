@@ -6,6 +6,7 @@ import com.zenn.uno.domain.model.Card;
 import com.zenn.uno.domain.model.Color;
 import com.zenn.uno.domain.model.Game;
 import com.zenn.uno.domain.model.Player;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Service;
 
@@ -13,16 +14,42 @@ import org.springframework.stereotype.Service;
 public class PlayCardUseCase {
     private final GameRepository repository;
     private final TurnProcessingService turnService;
+    private final GameCommandExecutor commandExecutor;
+    private final GameCommitService commitService;
+    private final CpuTurnScheduler cpuTurnScheduler;
 
-    public PlayCardUseCase(GameRepository repository, TurnProcessingService turnService) {
+    public PlayCardUseCase(GameRepository repository, TurnProcessingService turnService,
+            GameCommandExecutor commandExecutor, GameCommitService commitService,
+            CpuTurnScheduler cpuTurnScheduler) {
         this.repository = repository;
         this.turnService = turnService;
+        this.commandExecutor = commandExecutor;
+        this.commitService = commitService;
+        this.cpuTurnScheduler = cpuTurnScheduler;
     }
 
-    public GameDto execute(String gameId, String playerId, java.util.List<Integer> cardIndices, Color declaredColor) {
-        Game game = repository.findById(gameId)
+    public CompletableFuture<GameDto> execute(String gameId, String playerId, java.util.List<Integer> cardIndices,
+            Color declaredColor, Long expectedVersion) {
+        return commandExecutor.submit(gameId,
+                () -> play(gameId, playerId, cardIndices, declaredColor, expectedVersion));
+    }
+
+    private GameDto play(String gameId, String playerId, java.util.List<Integer> cardIndices, Color declaredColor,
+            Long expectedVersion) {
+        Game game = repository.findForUpdate(gameId)
                 .orElseThrow(() -> new IllegalArgumentException("Game not found"));
+        GameVersionConflictException.verify(game, expectedVersion);
+        long baseVersion = game.getVersion();
+
+        apply(game, playerId, cardIndices, declaredColor);
+        commitService.commit(game, baseVersion);
+        cpuTurnScheduler.scheduleIfCpuTurn(game);
 
+        return GameDto.from(game);
+    }
+
+    // Validates and plays on an already loaded game; the caller commits
+    void apply(Game game, String playerId, java.util.List<Integer> cardIndices, Color declaredColor) {
         if (game.getState() != Game.GameState.PLAYING) {
             throw new IllegalStateException("Game is not active");
         }
@@ -54,7 +81,7 @@ public class PlayCardUseCase {
 
         // Fetch cards
         for (Integer index : cardIndices) {
-            if (index < 0 || index >= player.getHand().size()) {
+            if (index == null || index < 0 || index >= player.getHand().size()) {
                 throw new IllegalArgumentException("Invalid card index: " + index);
             }
             cardsToPlay.add(player.getHand().get(index));
@@ -71,34 +98,15 @@ public class PlayCardUseCase {
         }
 
         if (cardsToPlay.size() > 1) {
-            Integer baseNumber = firstCard.getNumber();
-            // Rule: "Same number".
-            // If first card is Action? (Skip, Reverse, etc). Official: "Same Symbol/Rank".
-            // Card.getNumber() returns null for Action.
-            // If card is Action, we check Type.
-
+            // Number cards stack with the same number; action and wild cards with the same type.
+            // Colors can provide anything.
+            long candidates = player.getHand().stackCandidates(firstCard);
             for (int i = 1; i < cardsToPlay.size(); i++) {
-                Card c = cardsToPlay.get(i);
-                if (baseNumber != null) {
-                    // Number card
-                    if (!baseNumber.equals(c.getNumber())) {
-                        throw new IllegalArgumentException("All cards must have the same number: " + baseNumber);
-                    }
-                } else {
-                    // Action card? Or Wild?
-                    // If Action, types must match.
-                    if (firstCard.getType() != c.getType()) {
-                        throw new IllegalArgumentException("All cards must have the same type: " + firstCard.getType());
-                    }
-                    // Wild?
-                    if (firstCard.isWild()) {
-                        // Wild usually can't be stacked unless house rule.
-                        // For simplicity: Allow stacking Wilds?
-                        // "Same Number" usually implies Numbers. Let's allow Actions if Type matches.
-                        // But forbid mixing Number and Action (covered by logic above).
-                    }
+                if ((candidates >>> cardsToPlay.get(i).id() & 1) == 0) {
+                    throw new IllegalArgumentException(firstCard.getNumber() != null
+                            ? "All cards must have the same number: " + firstCard.getNumber()
+                            : "All cards must have the same type: " + firstCard.getType());
                 }
-                // Colors can provide anything.
             }
         }
 
@@ -133,7 +141,5 @@ public class PlayCardUseCase {
         // cards.
 
         turnService.processTurnBatch(game, player, cardsToPlay, declaredColor);
-
-        return GameDto.from(game);
     }
 }
@@ -3,6 +3,7 @@ package com.zenn.uno.application.input;
 import com.zenn.uno.adapter.web.dto.GameDto;
 import com.zenn.uno.application.output.GameRepository;
 import com.zenn.uno.domain.model.Game;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Service;
 
@@ -10,23 +11,43 @@ import org.springframework.stereotype.Service;
 public class ProcessCpuTurnUseCase {
     private final GameRepository repository;
     private final TurnProcessingService turnService;
+    private final GameCommandExecutor commandExecutor;
+    private final GameCommitService commitService;
+    private final CpuTurnScheduler cpuTurnScheduler;
 
-    public ProcessCpuTurnUseCase(GameRepository repository, TurnProcessingService turnService) {
+    public ProcessCpuTurnUseCase(GameRepository repository, TurnProcessingService turnService,
+            GameCommandExecutor commandExecutor, GameCommitService commitService,
+            CpuTurnScheduler cpuTurnScheduler) {
         this.repository = repository;
         this.turnService = turnService;
+        this.commandExecutor = commandExecutor;
+        this.commitService = commitService;
+        this.cpuTurnScheduler = cpuTurnScheduler;
     }
 
-    public GameDto execute(String gameId) {
-        Game game = repository.findById(gameId)
+    public CompletableFuture<GameDto> execute(String gameId, Long expectedVersion) {
+        return commandExecutor.submit(gameId, () -> processCpuTurn(gameId, expectedVersion));
+    }
+
+    private GameDto processCpuTurn(String gameId, Long expectedVersion) {
+        Game game = repository.findForUpdate(gameId)
                 .orElseThrow(() -> new IllegalArgumentException("Game not found"));
+        GameVersionConflictException.verify(game, expectedVersion);
+        long baseVersion = game.getVersion();
 
-        if (game.getState() != Game.GameState.PLAYING) {
-            throw new IllegalStateException("Game is not active");
+        if (apply(game)) {
+            commitService.commit(game, baseVersion);
         }
-
-        // Execute single turn
-        turnService.processSingleCpuTurn(game);
+        cpuTurnScheduler.scheduleIfCpuTurn(game);
 
         return GameDto.from(game);
     }
+
+    // Runs a single CPU turn on an already loaded game; false if nothing changed. The caller commits
+    boolean apply(Game game) {
+        if (game.getState() != Game.GameState.PLAYING) {
+            throw new IllegalStateException("Game is not active");
+        }
+        return turnService.processSingleCpuTurn(game);
+    }
 }
@@ -1,8 +1,8 @@
 package com.zenn.uno.application.input;
 
-import com.zenn.uno.application.output.GameRepository;
 import com.zenn.uno.domain.model.Game;
 import com.zenn.uno.domain.model.Player;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -10,13 +10,23 @@ import org.springframework.stereotype.Service;
 
 @Service
 public class StartGameUseCase {
-    private final GameRepository repository; // RepositotyにGameオブジェクトを保存する
+    public static final Duration MAX_CPU_TURN_DELAY = Duration.ofMinutes(1);
 
-    public StartGameUseCase(GameRepository repository) {
-        this.repository = repository;
+    private final GameCommitService commitService; // RepositoryにGameオブジェクトを保存する
+    private final CpuTurnScheduler cpuTurnScheduler;
+
+    public StartGameUseCase(GameCommitService commitService, CpuTurnScheduler cpuTurnScheduler) {
+        this.commitService = commitService;
+        this.cpuTurnScheduler = cpuTurnScheduler;
     }
 
     public String execute() {
+        return execute(null);
+    }
+
+    // cpuTurnDelay: pause before each CPU move in this game (null = server default).
+    // Clamped to 0 (CPUs move at once) .. MAX_CPU_TURN_DELAY
+    public String execute(Duration cpuTurnDelay) {
         // Create 4 players
         List<Player> players = new ArrayList<>();
         players.add(new Player("0", "You", false)); // Human
@@ -25,8 +35,12 @@ public class StartGameUseCase {
         players.add(new Player("3", "CPU3", true));
 
         Game game = new Game(players);
+        if (cpuTurnDelay != null) {
+            game.setCpuTurnDelayMillis(Math.min(Math.max(cpuTurnDelay.toMillis(), 0), MAX_CPU_TURN_DELAY.toMillis()));
+        }
         game.start();
-        repository.save(game); // RepositoryにGameオブジェクトを保存する
+        commitService.commit(game, 0); // RepositoryにGameオブジェクトを保存する
+        cpuTurnScheduler.scheduleIfCpuTurn(game);
 
         return game.getId();
     }
@@ -1,7 +1,6 @@
 package com.zenn.uno.application.input;
 
 import com.zenn.uno.adapter.web.dto.GameDto;
-import com.zenn.uno.application.output.GameRepository;
 import com.zenn.uno.domain.model.Card;
 import com.zenn.uno.domain.model.Color;
 import com.zenn.uno.domain.model.Game;
@@ -19,12 +18,10 @@ import org.springframework.stereotype.Service;
 public class TurnProcessingService {
     private final EffectRegistry effectRegistry;
     private final CpuPolicy cpuPolicy;
-    private final GameRepository repository;
 
-    public TurnProcessingService(EffectRegistry effectRegistry, CpuPolicy cpuPolicy, GameRepository repository) {
+    public TurnProcessingService(EffectRegistry effectRegistry, CpuPolicy cpuPolicy) {
         this.effectRegistry = effectRegistry;
         this.cpuPolicy = cpuPolicy;
-        this.repository = repository;
     }
 
     public void processTurnBatch(Game game, Player player, java.util.List<Card> cards, Color declaredColor) {
@@ -67,9 +64,11 @@ public class TurnProcessingService {
     }
 
     private void processTurnInternal(Game game, Player player, Card card, Color declaredColor, boolean isFinalCard) {
-        // Remove card from hand
-        player.removeCard(card);
-        game.discard(card);
+        // Move card from hand to pile
+        game.playCard(player, card);
+        if (isFinalCard) {
+            player.recordTurn();
+        }
         // Only set Last Action for the LAST card played? Or all?
         // UI wants to see "Played Red 5 (and Blue 5)".
         // Simple: Set LastAction for each. UI bubbles might overwrite or flash.
@@ -85,8 +84,8 @@ public class TurnProcessingService {
                 .build();
         effect.apply(game, context);
 
-        // Check Win
-        game.checkWinCondition();
+        // Check Win (only this hand shrank; SwapEffect checks the hands it moved)
+        game.checkWinCondition(player);
         if (game.getState() == Game.GameState.FINISHED) {
             return;
         }
@@ -141,6 +140,7 @@ public class TurnProcessingService {
 
     /**
      * Executes a SINGLE turn for the current CPU player.
+     * The caller is responsible for saving the game.
      * 
      * @param game The game instance
      * @return true if a CPU turn was processed, false if it's not a CPU turn or
@@ -166,20 +166,15 @@ public class TurnProcessingService {
             processTurn(game, cpu, card, color);
         } else {
             // Draw
-            if (game.getDeck().isEmpty()) {
-                game.getDeck().refill(game.getDiscardPile());
-            }
-
-            if (game.getDeck().isEmpty()) {
+            Card drawn = game.drawCard(cpu);
+            if (drawn == null) {
                 // Skip if deck still empty
+                game.setLastAction(new LastAction(cpu.getId(), LastAction.ActionType.PASS, null));
+                cpu.recordTurn();
                 game.getTurnManager().nextTurn();
-                repository.save(game);
                 return true;
             }
 
-            Card drawn = game.getDeck().draw();
-            cpu.addCard(drawn);
-
             // Can play?
             if (game.canPlay(drawn)) {
                 // Determine color for wild if needed
@@ -190,11 +185,11 @@ public class TurnProcessingService {
                 processTurn(game, cpu, drawn, color);
             } else {
                 game.setLastAction(new LastAction(cpu.getId(), LastAction.ActionType.DRAW, null));
+                cpu.recordTurn();
                 game.getTurnManager().nextTurn();
             }
         }
 
-        repository.save(game);
         return true;
     }
 
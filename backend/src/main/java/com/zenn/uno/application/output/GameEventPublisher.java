@@ -0,0 +1,8 @@
+package com.zenn.uno.application.output;
+
+import com.zenn.uno.domain.model.Game;
+
+// Notified after every committed state change of a game
+public interface GameEventPublisher {
+    void publish(Game game);
+}
@@ -2,9 +2,33 @@ package com.zenn.uno.application.output;
 
 import com.zenn.uno.domain.model.Game;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface GameRepository {
+    // Unconditional save; bumps the game's version
     void save(Game game);
 
+    // Publishes the game in place of the stored one (and bumps its version) only
+    // if the stored version still equals expectedVersion. Returns false if
+    // another writer got there first; the stored game is then unchanged.
+    boolean compareAndSave(Game game, long expectedVersion);
+
+    // The stored (published) game. Shared with other readers: never change it
     Optional<Game> findById(String id);
+
+    // A private copy of the stored game for a command to change; it becomes
+    // visible to readers only when compareAndSave publishes it
+    default Optional<Game> findForUpdate(String id) {
+        return findById(id).map(Game::copy);
+    }
+
+    // Drop a game from the store (no-op if unknown)
+    void deleteById(String id);
+
+    // Every game currently held in memory (e.g. restored at startup), read-only
+    void forEachLoaded(Consumer<Game> action);
+
+    // Called with each game the store brings back into memory by itself
+    // (rehydrated from disk) rather than through a command; read-only
+    void addLoadListener(Consumer<Game> listener);
 }
@@ -1,64 +1,156 @@
 package com.zenn.uno.domain.model;
 
-import java.util.Objects;
+/**
+ * A card face. There are only 58 distinct faces, so every Card is one of the
+ * canonical instances below, shared by all games: decks and hands hold
+ * references into this table, and equality is identity.
+ *
+ * Each face has a small id (fits a byte), used by the persistence and wire formats:
+ * colored cards: color.ordinal() * 14 + (number 0-9 | 10 SKIP | 11 REVERSE | 12 DRAW2 | 13 SWAP)
+ * wilds: 56 WILD, 57 WILD_DRAW4
+ */
+public final class Card {
+    public static final int COUNT = 58;
 
-public class Card {
+    private static final int PER_COLOR = 14;
+    private static final int FIRST_WILD = 56;
+    private static final CardType[] ACTIONS = { CardType.SKIP, CardType.REVERSE, CardType.DRAW2, CardType.SWAP };
+    private static final Color[] COLORS = { Color.RED, Color.BLUE, Color.GREEN, Color.YELLOW };
+    private static final Card[] CARDS = new Card[COUNT];
+    // Sets of faces as id bits (58 ids fit in a long)
+    private static final long[] COLOR_MASKS = new long[Color.values().length];
+    private static final long[] TYPE_MASKS = new long[CardType.values().length];
+    private static final long[] NUMBER_MASKS = new long[10];
+
+    static {
+        for (Color color : COLORS) {
+            int base = color.ordinal() * PER_COLOR;
+            for (int n = 0; n <= 9; n++) {
+                CARDS[base + n] = new Card(base + n, color, CardType.NUMBER, n);
+            }
+            for (int a = 0; a < ACTIONS.length; a++) {
+                CARDS[base + 10 + a] = new Card(base + 10 + a, color, ACTIONS[a], null);
+            }
+        }
+        CARDS[FIRST_WILD] = new Card(FIRST_WILD, Color.BLACK, CardType.WILD, null);
+        CARDS[FIRST_WILD + 1] = new Card(FIRST_WILD + 1, Color.BLACK, CardType.WILD_DRAW4, null);
+        for (Card card : CARDS) {
+            long bit = 1L << card.id;
+            COLOR_MASKS[card.color.ordinal()] |= bit;
+            TYPE_MASKS[card.type.ordinal()] |= bit;
+            if (card.rank >= 0) {
+                NUMBER_MASKS[card.rank] |= bit;
+            }
+        }
+    }
+
+    private final byte id;
     private final Color color;
     private final CardType type;
     private final Integer number; // 0-9, null for actions
+    private final int rank; // number, or -1 for actions
+    private final boolean wild;
 
-    public Color getColor() {
-        return color;
+    private Card(int id, Color color, CardType type, Integer number) {
+        this.id = (byte) id;
+        this.color = color;
+        this.type = type;
+        this.number = number;
+        this.rank = number == null ? -1 : number;
+        this.wild = color == Color.BLACK;
     }
 
-    public CardType getType() {
-        return type;
+    public static Card of(int id) {
+        if (id < 0 || id >= COUNT) {
+            throw new IllegalArgumentException("Invalid card id: " + id);
+        }
+        return CARDS[id];
     }
 
-    public Integer getNumber() {
-        return number;
+    public static Card createNumber(Color color, int number) {
+        if (number < 0 || number > 9) {
+            throw new IllegalArgumentException("Invalid card number: " + number);
+        }
+        return CARDS[colorBase(color) + number];
     }
 
-    @Override
-    public String toString() {
-        return "Card(color=" + color + ", type=" + type + ", number=" + number + ")";
+    public static Card createAction(Color color, CardType type) {
+        return switch (type) {
+            case SKIP -> CARDS[colorBase(color) + 10];
+            case REVERSE -> CARDS[colorBase(color) + 11];
+            case DRAW2 -> CARDS[colorBase(color) + 12];
+            case SWAP -> CARDS[colorBase(color) + 13];
+            default -> throw new IllegalArgumentException("Not an action card: " + type);
+        };
     }
 
-    @Override
-    public boolean equals(Object o) {
-        if (this == o)
-            return true;
-        if (o == null || getClass() != o.getClass())
-            return false;
-        Card card = (Card) o;
-        return color == card.color && type == card.type && Objects.equals(number, card.number);
+    public static Card createWild(CardType type) {
+        return switch (type) {
+            case WILD -> CARDS[FIRST_WILD];
+            case WILD_DRAW4 -> CARDS[FIRST_WILD + 1];
+            default -> throw new IllegalArgumentException("Not a wild card: " + type);
+        };
     }
 
-    @Override
-    public int hashCode() {
-        return Objects.hash(color, type, number);
+    private static int colorBase(Color color) {
+        if (color == Color.BLACK) {
+            throw new IllegalArgumentException("Only wild cards are black");
+        }
+        return color.ordinal() * PER_COLOR;
     }
 
-    public Card(Color color, CardType type, Integer number) {
-        this.color = color;
-        this.type = type;
-        this.number = number;
+    public static long colorMask(Color color) {
+        return COLOR_MASKS[color.ordinal()];
     }
 
-    public static Card createNumber(Color color, int number) {
-        return new Card(color, CardType.NUMBER, number);
+    public static long typeMask(CardType type) {
+        return TYPE_MASKS[type.ordinal()];
     }
 
-    public static Card createAction(Color color, CardType type) {
-        return new Card(color, type, null);
+    public static long numberMask(int number) {
+        return NUMBER_MASKS[number];
     }
 
-    public static Card createWild(CardType type) {
-        return new Card(Color.BLACK, type, null);
+    // Faces that may follow this one in a multi-play: same number, or same type for non-number cards
+    public static long stackMask(Card first) {
+        return first.rank >= 0 ? NUMBER_MASKS[first.rank] : TYPE_MASKS[first.type.ordinal()];
+    }
+
+    // Not a bean getter on purpose: the id is not part of the JSON card
+    public int id() {
+        return id;
+    }
+
+    public Color getColor() {
+        return color;
+    }
+
+    public CardType getType() {
+        return type;
+    }
+
+    public Integer getNumber() {
+        return number;
     }
 
     public boolean isWild() {
-        return color == Color.BLACK;
+        return wild;
+    }
+
+    // Same number on two number cards
+    public boolean sameNumber(Card other) {
+        return rank >= 0 && rank == other.rank;
+    }
+
+    @Override
+    public String toString() {
+        return "Card(color=" + color + ", type=" + type + ", number=" + number + ")";
+    }
+
+    // equals is identity: there is exactly one instance per face
+    @Override
+    public int hashCode() {
+        return id;
     }
 
     public boolean matches(Card other) {
@@ -69,10 +161,6 @@ public class Card {
         if (this.type == other.type)
             return true;
         // Can play if numbers match (e.g. Red 5 on Blue 5)
-        if (this.type == CardType.NUMBER && other.type == CardType.NUMBER &&
-                this.number != null && this.number.equals(other.number)) {
-            return true;
-        }
-        return false;
+        return sameNumber(other);
     }
 }
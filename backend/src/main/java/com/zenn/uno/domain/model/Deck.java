@@ -1,66 +1,160 @@
 package com.zenn.uno.domain.model;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Stack;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
 
+/**
+ * Draw pile as card ids in one byte array, bottom to top; the top card is at
+ * size - 1. Shuffles are in-place Fisher-Yates, and refills reuse the same buffer.
+ * The deck's randomness is one long (randomState) that seeds each reshuffle
+ * and is replaced by it: copies start from the same value without touching
+ * the original, and persisting it keeps a restored game's shuffles seeded.
+ * Not thread-safe: a game is only touched by its single writer.
+ */
 public class Deck {
-    private final Stack<Card> cards;
+    // 4 colors x (one 0, two each of 1-9, SKIP, REVERSE, DRAW2, one SWAP) + 4 WILD + 4 WILD_DRAW4
+    private static final byte[] FULL = fullDeck();
+
+    private long randomState;
+    private byte[] cards;
+    private int size;
 
     public Deck() {
-        this.cards = new Stack<>();
-        initialize();
+        this(new SplittableRandom());
+    }
+
+    // A new deck shuffled by the given generator (seed it for reproducible games),
+    // which also seeds the deck's later reshuffles
+    public Deck(RandomGenerator random) {
+        this.cards = FULL.clone();
+        this.size = cards.length;
+        shuffle(random);
+        this.randomState = random.nextLong();
+    }
+
+    // Restore a deck in the given order (bottom to top) and random state, without reshuffling
+    public Deck(List<Card> cards, long randomState) {
+        this.randomState = randomState;
+        this.cards = new byte[Math.max(cards.size(), FULL.length)];
+        for (Card card : cards) {
+            this.cards[size++] = (byte) card.id();
+        }
+    }
+
+    // Same cards in the same order and the same random state
+    private Deck(Deck other) {
+        this.randomState = other.randomState;
+        this.cards = other.cards.clone();
+        this.size = other.size;
     }
 
-    private void initialize() {
+    Deck copy() {
+        return new Deck(this);
+    }
+
+    private static byte[] fullDeck() {
+        byte[] deck = new byte[112];
+        int n = 0;
         // Red, Blue, Green, Yellow
         for (Color color : List.of(Color.RED, Color.BLUE, Color.GREEN, Color.YELLOW)) {
             // 0: 1 per color
-            cards.add(Card.createNumber(color, 0));
+            deck[n++] = (byte) Card.createNumber(color, 0).id();
 
             // 1-9: 2 per color
             for (int i = 1; i <= 9; i++) {
-                cards.add(Card.createNumber(color, i));
-                cards.add(Card.createNumber(color, i));
+                deck[n++] = (byte) Card.createNumber(color, i).id();
+                deck[n++] = (byte) Card.createNumber(color, i).id();
             }
 
             // Actions: 2 per color
             for (CardType type : List.of(CardType.SKIP, CardType.REVERSE, CardType.DRAW2)) {
-                cards.add(Card.createAction(color, type));
-                cards.add(Card.createAction(color, type));
+                deck[n++] = (byte) Card.createAction(color, type).id();
+                deck[n++] = (byte) Card.createAction(color, type).id();
             }
 
             // SWAP: 1 per color (Custom Extension)
-            cards.add(Card.createAction(color, CardType.SWAP));
+            deck[n++] = (byte) Card.createAction(color, CardType.SWAP).id();
         }
 
         // Wilds
         for (int i = 0; i < 4; i++) {
-            cards.add(Card.createWild(CardType.WILD));
-            cards.add(Card.createWild(CardType.WILD_DRAW4));
+            deck[n++] = (byte) Card.createWild(CardType.WILD).id();
+            deck[n++] = (byte) Card.createWild(CardType.WILD_DRAW4).id();
         }
-
-        shuffle();
+        return Arrays.copyOf(deck, n);
     }
 
     public void shuffle() {
-        Collections.shuffle(cards);
+        SplittableRandom random = new SplittableRandom(randomState);
+        shuffle(random);
+        randomState = random.nextLong();
+    }
+
+    private void shuffle(RandomGenerator random) {
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte t = cards[i];
+            cards[i] = cards[j];
+            cards[j] = t;
+        }
     }
 
     public Card draw() {
-        if (cards.isEmpty()) {
+        if (size == 0) {
             throw new IllegalStateException("Deck is empty");
         }
-        return cards.pop();
+        return Card.of(cards[--size]);
+    }
+
+    // Hands up to count cards from the top to the consumer; returns how many there were
+    public int drawN(int count, Consumer<Card> into) {
+        int n = Math.min(count, size);
+        for (int i = 0; i < n; i++) {
+            into.accept(Card.of(cards[--size]));
+        }
+        return n;
+    }
+
+    // Remaining cards, bottom to top (a read-only view)
+    public List<Card> getCards() {
+        return new AbstractList<>() {
+            @Override
+            public Card get(int index) {
+                return Card.of(cards[index]);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Seeds the next shuffle; persisted with the deck
+    public long getRandomState() {
+        return randomState;
     }
 
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return size == 0;
     }
 
+    // Adds the cards under the remaining ones and shuffles everything
     public void refill(List<Card> discards) {
-        cards.addAll(discards);
+        if (size + discards.size() > cards.length) {
+            cards = Arrays.copyOf(cards, size + discards.size()); // Only if fed more than a full deck
+        }
+        for (int i = 0; i < discards.size(); i++) {
+            cards[size++] = (byte) discards.get(i).id();
+        }
         shuffle();
     }
 }
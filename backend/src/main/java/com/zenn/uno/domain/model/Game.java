@@ -3,8 +3,11 @@ package com.zenn.uno.domain.model;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.random.RandomGenerator;
 
 public class Game {
+    public static final long DEFAULT_CPU_TURN_DELAY = -1; // Use the server's uno.cpu.turn-delay
+
     private final String id;
     private final List<Player> players;
     private final Deck deck;
@@ -15,6 +18,8 @@ public class Game {
     private Color currentColor; // Current active color (important for Wilds)
     private String winnerId; // ID of winner
     private LastAction lastAction;
+    private long version; // Bumped by the repository on every committed save
+    private long cpuTurnDelayMillis = DEFAULT_CPU_TURN_DELAY; // Pause before each CPU move
 
     public LastAction getLastAction() {
         return lastAction;
@@ -24,6 +29,22 @@ public class Game {
         this.lastAction = lastAction;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public long getCpuTurnDelayMillis() {
+        return cpuTurnDelayMillis;
+    }
+
+    public void setCpuTurnDelayMillis(long cpuTurnDelayMillis) {
+        this.cpuTurnDelayMillis = cpuTurnDelayMillis;
+    }
+
     public String getId() {
         return id;
     }
@@ -75,20 +96,54 @@ public class Game {
     }
 
     public Game(List<Player> players) {
+        this(players, new Deck());
+    }
+
+    // Seeded generator = reproducible shuffles (simulations, bots)
+    public Game(List<Player> players, RandomGenerator random) {
+        this(players, new Deck(random));
+    }
+
+    private Game(List<Player> players, Deck deck) {
         this.id = UUID.randomUUID().toString();
         this.players = players;
-        this.deck = new Deck();
+        this.deck = deck;
         this.discardPile = new ArrayList<>();
         this.turnManager = new TurnManager(players);
         this.state = GameState.WAITING;
     }
 
+    // Rebuild an existing game (e.g. from persisted state)
+    public Game(String id, List<Player> players, Deck deck, List<Card> discardPile, TurnManager turnManager) {
+        this.id = id;
+        this.players = players;
+        this.deck = deck;
+        this.discardPile = discardPile;
+        this.turnManager = turnManager;
+        this.state = GameState.WAITING;
+    }
+
+    // Independent copy for a command to change while readers keep using this one
+    public Game copy() {
+        List<Player> playersCopy = new ArrayList<>(players.size());
+        for (Player p : players) {
+            playersCopy.add(p.copy());
+        }
+        Game copy = new Game(id, playersCopy, deck.copy(), new ArrayList<>(discardPile),
+                new TurnManager(playersCopy, turnManager.getCurrentIndex(), turnManager.getDirection()));
+        copy.state = state;
+        copy.currentColor = currentColor;
+        copy.winnerId = winnerId;
+        copy.lastAction = lastAction;
+        copy.version = version;
+        copy.cpuTurnDelayMillis = cpuTurnDelayMillis;
+        return copy;
+    }
+
     public void start() {
         // Distribute 4 cards to each player
-        for (int i = 0; i < 4; i++) {
-            for (Player p : players) {
-                p.addCard(deck.draw());
-            }
+        for (Player p : players) {
+            deck.drawN(4, p::addCard);
         }
 
         // Draw first card for discard pile
@@ -123,38 +178,55 @@ public class Game {
     }
 
     public boolean canPlay(Card card) {
-        Card top = getTopCard();
-        // Wilds are always playable
-        if (card.isWild())
-            return true;
-
-        // Match color (currentColor)
-        if (card.getColor() == currentColor)
-            return true;
-
-        // Match type (Action cards match symbol)
-        // Note: Do NOT match generic NUMBER type here, Numbers must match value
-        if (card.getType() != CardType.NUMBER && card.getType() == top.getType())
-            return true;
-
-        // Match number
-        if (card.getType() == CardType.NUMBER && top.getType() == CardType.NUMBER &&
-                card.getNumber().equals(top.getNumber())) {
-            return true;
+        return PlayabilityTable.canPlay(getTopCard(), currentColor, card);
+    }
+
+    // Faces that can be played right now, as Card id bits (see PlayabilityTable)
+    public long playableMask() {
+        return PlayabilityTable.playable(getTopCard(), currentColor);
+    }
+
+    // Takes the card from the player's hand onto the pile
+    public void playCard(Player player, Card card) {
+        if (player.removeCard(card)) {
+            player.countPlayed();
         }
+        discard(card);
+    }
 
-        return false;
+    // Only a hand that just shrank can be empty, so only that player needs checking
+    public void checkWinCondition(Player player) {
+        if (state != GameState.FINISHED && player.getHand().isEmpty()) {
+            this.state = GameState.FINISHED;
+            this.winnerId = player.getId();
+        }
     }
 
-    // Check if player has won
-    public void checkWinCondition() {
-        for (Player p : players) {
-            if (p.getHand().isEmpty()) {
-                this.state = GameState.FINISHED;
-                this.winnerId = p.getId();
-                break;
-            }
+    // Draws one card for the player, reshuffling the discards first if the deck is
+    // empty; null if there is nothing left to draw
+    public Card drawCard(Player player) {
+        if (deck.isEmpty()) {
+            reshuffle();
+        }
+        if (deck.isEmpty()) {
+            return null;
+        }
+        Card card = deck.draw();
+        player.addCard(card);
+        player.countDrawn(1);
+        return card;
+    }
+
+    // Draws up to count cards for the player, reshuffling the discards into the deck
+    // if it runs out; returns how many could be drawn
+    public int drawCards(Player player, int count) {
+        int drawn = deck.drawN(count, player::addCard);
+        if (drawn < count) {
+            reshuffle();
+            drawn += deck.drawN(count - drawn, player::addCard);
         }
+        player.countDrawn(drawn);
+        return drawn;
     }
 
     public void reshuffle() {
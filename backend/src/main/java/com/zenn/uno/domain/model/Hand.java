@@ -0,0 +1,189 @@
+package com.zenn.uno.domain.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A player's cards in the order the client sees them (play requests address
+ * cards by index), indexed for the rules and the CPU: a count per card face,
+ * a count per color and a bit per face held (Card ids fit in a long).
+ * Membership, playability and color questions are answered from the index
+ * without scanning the hand. Every List mutator (including iterator removal,
+ * removeIf and sort) goes through add, set or remove, which keep it current.
+ */
+public final class Hand extends AbstractList<Card> {
+    private static final Color[] PLAIN_COLORS = { Color.RED, Color.BLUE, Color.GREEN, Color.YELLOW };
+
+    private byte[] cards = new byte[8]; // Card ids, in hand order
+    private int size;
+    private final byte[] counts = new byte[Card.COUNT];
+    private final int[] colorCounts = new int[Color.values().length];
+    private long mask; // Bit id set while counts[id] > 0
+
+    Hand() {
+    }
+
+    private Hand(Hand other) {
+        this.cards = other.cards.clone();
+        this.size = other.size;
+        System.arraycopy(other.counts, 0, counts, 0, counts.length);
+        System.arraycopy(other.colorCounts, 0, colorCounts, 0, colorCounts.length);
+        this.mask = other.mask;
+    }
+
+    Hand copy() {
+        return new Hand(this);
+    }
+
+    @Override
+    public Card get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Card index " + index + " of " + size);
+        }
+        return Card.of(cards[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(Card card) {
+        if (size == cards.length) {
+            cards = Arrays.copyOf(cards, size * 2);
+        }
+        cards[size++] = (byte) card.id();
+        counted(card);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, Card card) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Card index " + index + " of " + size);
+        }
+        if (size == cards.length) {
+            cards = Arrays.copyOf(cards, size * 2);
+        }
+        System.arraycopy(cards, index, cards, index + 1, size - index);
+        cards[index] = (byte) card.id();
+        size++;
+        counted(card);
+        modCount++;
+    }
+
+    @Override
+    public Card set(int index, Card card) {
+        Card old = get(index);
+        cards[index] = (byte) card.id();
+        uncounted(old);
+        counted(card);
+        return old;
+    }
+
+    // Keeps the order of the rest
+    @Override
+    public Card remove(int index) {
+        Card card = get(index);
+        System.arraycopy(cards, index + 1, cards, index, size - index - 1);
+        size--;
+        uncounted(card);
+        modCount++;
+        return card;
+    }
+
+    // Removes the first copy of the card, keeping the order of the rest
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof Card card) || counts[card.id()] == 0) {
+            return false;
+        }
+        int id = card.id();
+        int index = 0;
+        while (cards[index] != id) {
+            index++;
+        }
+        remove(index);
+        return true;
+    }
+
+    private void counted(Card card) {
+        int id = card.id();
+        counts[id]++;
+        colorCounts[card.getColor().ordinal()]++;
+        mask |= 1L << id;
+    }
+
+    private void uncounted(Card card) {
+        int id = card.id();
+        if (--counts[id] == 0) {
+            mask &= ~(1L << id);
+        }
+        colorCounts[card.getColor().ordinal()]--;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        Arrays.fill(counts, (byte) 0);
+        Arrays.fill(colorCounts, 0);
+        mask = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Card card && counts[card.id()] > 0;
+    }
+
+    // Faces held, as Card id bits
+    public long mask() {
+        return mask;
+    }
+
+    public int count(Card card) {
+        return counts[card.id()];
+    }
+
+    public int countOf(Color color) {
+        return colorCounts[color.ordinal()];
+    }
+
+    // Any card whose id bit is in the given mask (e.g. Game.playableMask())
+    public boolean hasAny(long faces) {
+        return (mask & faces) != 0;
+    }
+
+    // Every held card (each copy) whose face is in the mask, by card id
+    public List<Card> cardsIn(long faces) {
+        List<Card> result = new ArrayList<>();
+        for (long bits = mask & faces; bits != 0; bits &= bits - 1) {
+            Card card = Card.of(Long.numberOfTrailingZeros(bits));
+            for (int n = counts[card.id()]; n > 0; n--) {
+                result.add(card);
+            }
+        }
+        return result;
+    }
+
+    // Most held non-wild color (first of RED, BLUE, GREEN, YELLOW on ties); null if none
+    public Color mostFrequentColor() {
+        Color best = null;
+        for (Color color : PLAIN_COLORS) {
+            if (colorCounts[color.ordinal()] > 0
+                    && (best == null || colorCounts[color.ordinal()] > colorCounts[best.ordinal()])) {
+                best = color;
+            }
+        }
+        return best;
+    }
+
+    // Held faces that may be stacked with the given card in one multi-play
+    public long stackCandidates(Card first) {
+        return mask & Card.stackMask(first);
+    }
+}
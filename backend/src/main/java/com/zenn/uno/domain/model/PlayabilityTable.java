@@ -0,0 +1,49 @@
+package com.zenn.uno.domain.model;
+
+/**
+ * The play rule compiled into a table, built once when the class loads: for
+ * every (top card, current color) the set of playable faces as Card id bits.
+ * A card can be played on the pile when it is wild, has the current color,
+ * has the top card's action symbol, or is a number card with the top card's
+ * number. The current color may be null (not set yet); then only the symbol,
+ * number and wild rules apply.
+ */
+public final class PlayabilityTable {
+    private static final int COLOR_SLOTS = Color.values().length + 1; // Last slot: no current color
+    private static final long[] PLAYABLE = new long[Card.COUNT * COLOR_SLOTS];
+
+    static {
+        for (int top = 0; top < Card.COUNT; top++) {
+            for (int slot = 0; slot < COLOR_SLOTS; slot++) {
+                PLAYABLE[top * COLOR_SLOTS + slot] = compute(Card.of(top),
+                        slot < Color.values().length ? Color.values()[slot] : null);
+            }
+        }
+    }
+
+    private PlayabilityTable() {
+    }
+
+    private static long compute(Card top, Color currentColor) {
+        long faces = Card.colorMask(Color.BLACK);
+        if (currentColor != null) {
+            faces |= Card.colorMask(currentColor);
+        }
+        if (top.getType() == CardType.NUMBER) {
+            faces |= Card.numberMask(top.getNumber());
+        } else {
+            faces |= Card.typeMask(top.getType());
+        }
+        return faces;
+    }
+
+    // Playable faces on this pile, as Card id bits
+    public static long playable(Card top, Color currentColor) {
+        int slot = currentColor == null ? COLOR_SLOTS - 1 : currentColor.ordinal();
+        return PLAYABLE[top.id() * COLOR_SLOTS + slot];
+    }
+
+    public static boolean canPlay(Card top, Color currentColor, Card card) {
+        return (playable(top, currentColor) >>> card.id() & 1) != 0;
+    }
+}
@@ -1,13 +1,16 @@
 package com.zenn.uno.domain.model;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class Player {
     private final String id;
     private final String name;
     private final boolean isCpu;
-    private final List<Card> hand;
+    private final Hand hand;
+    // Running totals, kept up as cards move (the opening deal is not counted)
+    private int cardsPlayed;
+    private int cardsDrawn;
+    private int turnsTaken;
 
     public String getId() {
         return id;
@@ -21,25 +24,35 @@ public class Player {
         return isCpu;
     }
 
-    public List<Card> getHand() {
+    public Hand getHand() {
         return hand;
     }
 
     // For CPU, we might inject a Strategy later, but keep it simple in model
 
     public Player(String id, String name, boolean isCpu) {
+        this(id, name, isCpu, new Hand());
+    }
+
+    private Player(String id, String name, boolean isCpu, Hand hand) {
         this.id = id;
         this.name = name;
         this.isCpu = isCpu;
-        this.hand = new ArrayList<>();
+        this.hand = hand;
+    }
+
+    Player copy() {
+        Player copy = new Player(id, name, isCpu, hand.copy());
+        copy.restoreStats(cardsPlayed, cardsDrawn, turnsTaken);
+        return copy;
     }
 
     public void addCard(Card card) {
         hand.add(card);
     }
 
-    public void removeCard(Card card) {
-        hand.remove(card);
+    public boolean removeCard(Card card) {
+        return hand.remove(card);
     }
 
     public void setHand(List<Card> newHand) {
@@ -50,4 +63,36 @@ public class Player {
     public int getHandSize() {
         return hand.size();
     }
+
+    public int getCardsPlayed() {
+        return cardsPlayed;
+    }
+
+    public int getCardsDrawn() {
+        return cardsDrawn;
+    }
+
+    public int getTurnsTaken() {
+        return turnsTaken;
+    }
+
+    void countPlayed() {
+        cardsPlayed++;
+    }
+
+    void countDrawn(int count) {
+        cardsDrawn += count;
+    }
+
+    // The player's turn is over: played, drew without playing, or passed
+    public void recordTurn() {
+        turnsTaken++;
+    }
+
+    // Rebuild the totals (e.g. from persisted state)
+    public void restoreStats(int cardsPlayed, int cardsDrawn, int turnsTaken) {
+        this.cardsPlayed = cardsPlayed;
+        this.cardsDrawn = cardsDrawn;
+        this.turnsTaken = turnsTaken;
+    }
 }
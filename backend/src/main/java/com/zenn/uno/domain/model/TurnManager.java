@@ -25,6 +25,12 @@ public class TurnManager {
         this.direction = Direction.CLOCKWISE;
     }
 
+    public TurnManager(List<Player> players, int currentIndex, Direction direction) {
+        this.players = players;
+        this.currentIndex = currentIndex;
+        this.direction = direction;
+    }
+
     public Player getCurrentPlayer() {
         return players.get(currentIndex);
     }
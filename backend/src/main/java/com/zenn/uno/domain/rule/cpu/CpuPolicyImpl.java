@@ -8,26 +8,26 @@ import com.zenn.uno.domain.model.Player;
 import com.zenn.uno.domain.rule.CpuPolicy;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class CpuPolicyImpl implements CpuPolicy {
 
-    @Value("${uno.cpu.difficulty:NORMAL}")
-    private String difficulty;
+    private final String difficulty;
+
+    public CpuPolicyImpl(@Value("${uno.cpu.difficulty:NORMAL}") String difficulty) {
+        this.difficulty = difficulty;
+    }
 
     @Override
     public Card selectCard(Game game, Player me) {
-        List<Card> playable = me.getHand().stream()
-                .filter(game::canPlay)
-                .collect(Collectors.toList());
-
-        if (playable.isEmpty()) {
+        long playableFaces = game.playableMask();
+        if (!me.getHand().hasAny(playableFaces)) {
             return null; // Must draw
         }
+        List<Card> playable = me.getHand().cardsIn(playableFaces);
 
         if ("HARD".equalsIgnoreCase(difficulty)) {
             return selectHard(game, me, playable);
@@ -41,25 +41,19 @@ public class CpuPolicyImpl implements CpuPolicy {
         // WEAK/NORMAL: Pick Random Color
         // HARD: Pick Most Frequent
         if ("HARD".equalsIgnoreCase(difficulty)) {
-            return me.getHand().stream()
-                    .filter(c -> c.getColor() != Color.BLACK)
-                    .collect(Collectors.groupingBy(Card::getColor, Collectors.counting()))
-                    .entrySet().stream()
-                    .max(Map.Entry.comparingByValue())
-                    .map(Map.Entry::getKey)
-                    .orElse(Color.RED);
+            Color mostFrequent = me.getHand().mostFrequentColor();
+            return mostFrequent != null ? mostFrequent : Color.RED;
         } else {
             // Random
             Color[] colors = { Color.RED, Color.BLUE, Color.GREEN, Color.YELLOW };
-            return colors[new java.util.Random().nextInt(colors.length)];
+            return colors[ThreadLocalRandom.current().nextInt(colors.length)];
         }
     }
 
     private Card selectNormal(Game game, Player me, List<Card> playable) {
         // WEAK Logic: Play Randomly
         // Do not prioritize attacks.
-        java.util.Collections.shuffle(playable);
-        return playable.get(0);
+        return playable.get(ThreadLocalRandom.current().nextInt(playable.size()));
     }
 
     private int getBlockerScore(Card c) {
@@ -8,13 +8,15 @@ import com.zenn.uno.domain.rule.CardPlayContext;
 import com.zenn.uno.domain.model.Game;
 import com.zenn.uno.domain.rule.EffectRegistry;
 import jakarta.annotation.PostConstruct;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
 public class Draw2Effect implements CardEffect {
-    @Autowired
-    private EffectRegistry registry;
+    private final EffectRegistry registry;
+
+    public Draw2Effect(EffectRegistry registry) {
+        this.registry = registry;
+    }
 
     @PostConstruct
     public void register() {
@@ -25,14 +27,7 @@ public class Draw2Effect implements CardEffect {
     public void apply(Game game, CardPlayContext context) {
         // Draw 2 for next player
         Player victim = game.getTurnManager().getNextPlayer();
-        for (int i = 0; i < 2; i++) {
-            if (game.getDeck().isEmpty()) {
-                game.reshuffle();
-            }
-            if (!game.getDeck().isEmpty()) {
-                victim.addCard(game.getDeck().draw());
-            }
-        }
+        game.drawCards(victim, 2);
         game.getTurnManager().skipTurn(); // Skip the victim
     }
 }
@@ -6,13 +6,15 @@ import com.zenn.uno.domain.rule.CardPlayContext;
 import com.zenn.uno.domain.model.Game;
 import com.zenn.uno.domain.rule.EffectRegistry;
 import jakarta.annotation.PostConstruct;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ReverseEffect implements CardEffect {
-    @Autowired
-    private EffectRegistry registry;
+    private final EffectRegistry registry;
+
+    public ReverseEffect(EffectRegistry registry) {
+        this.registry = registry;
+    }
 
     @PostConstruct
     public void register() {
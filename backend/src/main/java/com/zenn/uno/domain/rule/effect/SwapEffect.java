@@ -12,13 +12,15 @@ import jakarta.annotation.PostConstruct;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
 public class SwapEffect implements CardEffect {
-    @Autowired
-    private EffectRegistry registry;
+    private final EffectRegistry registry;
+
+    public SwapEffect(EffectRegistry registry) {
+        this.registry = registry;
+    }
 
     @PostConstruct
     public void register() {
@@ -56,5 +58,10 @@ public class SwapEffect implements CardEffect {
 
             players.get(i).setHand(snapshots.get(sourceIndex));
         }
+
+        // The player's emptied hand may have moved on to a neighbour
+        for (Player p : players) {
+            game.checkWinCondition(p);
+        }
     }
 }
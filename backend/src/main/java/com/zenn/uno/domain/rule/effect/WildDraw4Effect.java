@@ -8,13 +8,15 @@ import com.zenn.uno.domain.rule.CardPlayContext;
 import com.zenn.uno.domain.model.Game;
 import com.zenn.uno.domain.rule.EffectRegistry;
 import jakarta.annotation.PostConstruct;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
 public class WildDraw4Effect implements CardEffect {
-    @Autowired
-    private EffectRegistry registry;
+    private final EffectRegistry registry;
+
+    public WildDraw4Effect(EffectRegistry registry) {
+        this.registry = registry;
+    }
 
     @PostConstruct
     public void register() {
@@ -30,14 +32,7 @@ public class WildDraw4Effect implements CardEffect {
 
         // Draw 4 for next player
         Player victim = game.getTurnManager().getNextPlayer();
-        for (int i = 0; i < 4; i++) {
-            if (game.getDeck().isEmpty()) {
-                game.reshuffle();
-            }
-            if (!game.getDeck().isEmpty()) {
-                victim.addCard(game.getDeck().draw());
-            }
-        }
+        game.drawCards(victim, 4);
 
         game.getTurnManager().skipTurn(); // Skip the victim
     }
@@ -0,0 +1,72 @@
+package com.zenn.uno;
+
+import com.zenn.uno.application.input.TurnProcessingService;
+import com.zenn.uno.domain.model.Game;
+import com.zenn.uno.domain.model.Player;
+import com.zenn.uno.domain.rule.EffectRegistry;
+import com.zenn.uno.domain.rule.cpu.CpuPolicyImpl;
+import com.zenn.uno.domain.rule.effect.Draw2Effect;
+import com.zenn.uno.domain.rule.effect.ReverseEffect;
+import com.zenn.uno.domain.rule.effect.SkipEffect;
+import com.zenn.uno.domain.rule.effect.SwapEffect;
+import com.zenn.uno.domain.rule.effect.WildDraw4Effect;
+import com.zenn.uno.domain.rule.effect.WildEffect;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+// Seeded games for tests, wired by hand like LightweightUnoApplication
+public final class TestGames {
+    private static final int MAX_TURNS = 1000;
+
+    private TestGames() {
+    }
+
+    public static TurnProcessingService turnService() {
+        EffectRegistry effects = new EffectRegistry();
+        new SkipEffect(effects).register();
+        new ReverseEffect(effects).register();
+        new Draw2Effect(effects).register();
+        new SwapEffect(effects).register();
+        new WildEffect(effects).register();
+        new WildDraw4Effect(effects).register();
+        return new TurnProcessingService(effects, new CpuPolicyImpl("NORMAL"));
+    }
+
+    // The usual table: a human in seat 0 and three CPUs
+    public static List<Player> players() {
+        List<Player> players = new ArrayList<>();
+        players.add(new Player("0", "You", false));
+        for (int i = 1; i < 4; i++) {
+            players.add(new Player(String.valueOf(i), "CPU" + i, true));
+        }
+        return players;
+    }
+
+    // Four CPUs, so the game can be played through by the server alone
+    public static List<Player> cpuPlayers() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            players.add(new Player(String.valueOf(i), "CPU" + i, true));
+        }
+        return players;
+    }
+
+    public static Game started(long seed) {
+        Game game = new Game(cpuPlayers(), new SplittableRandom(seed));
+        game.start();
+        return game;
+    }
+
+    // Plays the seeded game to the end, handing over the game after the start and after every turn
+    public static Game playThrough(long seed, TurnProcessingService turns, Consumer<Game> afterEachTurn) {
+        Game game = started(seed);
+        afterEachTurn.accept(game);
+        for (int i = 0; i < MAX_TURNS && turns.processSingleCpuTurn(game); i++) {
+            game.setVersion(game.getVersion() + 1);
+            afterEachTurn.accept(game);
+        }
+        return game;
+    }
+}
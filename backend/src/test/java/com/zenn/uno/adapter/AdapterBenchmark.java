@@ -0,0 +1,117 @@
+package com.zenn.uno.adapter;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * The MVC and reactive adapters side by side: boots each in turn and has
+ * concurrent clients read /state of GAMES games for a fixed time.
+ * Prints requests per second and latency percentiles. On Java 21 MVC also
+ * runs with spring.threads.virtual.enabled=true ("servlet-vt"), for the
+ * virtual-thread vs platform-thread comparison of the java21 profile.
+ * Not a test (surefire skips it); run with
+ *   mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *   java -cp target/classes:target/test-classes:$(cat target/cp.txt) com.zenn.uno.adapter.AdapterBenchmark [clients...]
+ * Several client counts (e.g. 64 256 1024) show how each mode scales with connections.
+ */
+public class AdapterBenchmark {
+    private static final int GAMES = 32;
+    private static final int DEFAULT_CLIENTS = 64;
+    private static final long WARM_UP_MILLIS = 5_000;
+    private static final long MEASURE_MILLIS = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("spring.devtools.restart.enabled", "false"); // Otherwise devtools reruns main
+        int[] clientCounts = args.length == 0 ? new int[] { DEFAULT_CLIENTS }
+                : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+        List<String> modes = new ArrayList<>(List.of("servlet", "reactive"));
+        if (Runtime.version().feature() >= 21) {
+            modes.add(1, "servlet-vt");
+        } else {
+            System.out.println("Java " + Runtime.version().feature() + ": servlet-vt needs Java 21, skipped");
+        }
+        System.out.printf("%-10s %8s %12s %10s %10s %10s%n", "adapter", "clients", "requests/s", "p50 us", "p99 us",
+                "errors");
+        for (String mode : modes) {
+            String type = mode.equals("reactive") ? "reactive" : "servlet";
+            String virtual = "spring.threads.virtual.enabled=" + mode.equals("servlet-vt");
+            try (ConfigurableApplicationContext app = AdapterCompatibilityTest.start(type, virtual)) {
+                String base = AdapterCompatibilityTest.baseUrl(app);
+                List<String> states = new ArrayList<>();
+                for (int i = 0; i < GAMES; i++) {
+                    String body = new String(AdapterCompatibilityTest.send(HttpRequest.newBuilder(
+                            URI.create(base + "/start")).POST(HttpRequest.BodyPublishers.noBody()).build()).body());
+                    states.add(base + "/" + body.replaceAll(".*\"gameId\":\"([^\"]+)\".*", "$1") + "/state");
+                }
+                for (int clients : clientCounts) {
+                    run(states, clients, WARM_UP_MILLIS);
+                    Result result = run(states, clients, MEASURE_MILLIS);
+                    System.out.printf("%-10s %8d %12d %10d %10d %10d%n", mode, clients,
+                            result.count * 1000 / MEASURE_MILLIS, result.percentile(0.50) / 1000,
+                            result.percentile(0.99) / 1000, result.errors);
+                }
+            }
+        }
+    }
+
+    private static Result run(List<String> states, int clientCount, long millis) throws Exception {
+        long end = System.currentTimeMillis() + millis;
+        ExecutorService clients = Executors.newFixedThreadPool(clientCount);
+        List<Future<Result>> futures = new ArrayList<>();
+        for (int c = 0; c < clientCount; c++) {
+            int client = c;
+            futures.add(clients.submit(() -> {
+                Result r = new Result();
+                for (int i = client; System.currentTimeMillis() < end; i++) {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(states.get(i % states.size()))).build();
+                    long start = System.nanoTime();
+                    int status = AdapterCompatibilityTest.send(request).statusCode();
+                    r.add(System.nanoTime() - start, status == 200);
+                }
+                return r;
+            }));
+        }
+        Result total = new Result();
+        for (Future<Result> f : futures) {
+            total.merge(f.get());
+        }
+        clients.shutdown();
+        return total;
+    }
+
+    private static final class Result {
+        private long[] nanos = new long[1024];
+        private int count;
+        private int errors;
+
+        void add(long latency, boolean ok) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = latency;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void merge(Result other) {
+            for (int i = 0; i < other.count; i++) {
+                add(other.nanos[i], true);
+            }
+            errors += other.errors;
+        }
+
+        long percentile(double p) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return count == 0 ? 0 : sorted[(int) Math.min(count - 1, (long) (count * p))];
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.zenn.uno.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenn.uno.LightweightUnoApplication;
+import com.zenn.uno.UnoApplication;
+import com.zenn.uno.adapter.reactive.ReactiveGameController;
+import com.zenn.uno.adapter.web.GameController;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+// The MVC, reactive and lightweight adapters side by side: same routes, and the same answers to the same requests
+class AdapterCompatibilityTest {
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final String BINARY = "application/vnd.uno.game";
+    private static final HttpClient HTTP = HttpClient.newHttpClient();
+
+    private static ConfigurableApplicationContext mvc;
+    private static ConfigurableApplicationContext reactive;
+    private static LightweightUnoApplication lightweight;
+
+    @BeforeAll
+    static void startAll() throws IOException {
+        mvc = start("servlet");
+        reactive = start("reactive");
+        lightweight = LightweightUnoApplication.start("--server.port=0",
+                "--uno.cpu.scheduler.enabled=false",
+                "--uno.repository.hibernate-after=0");
+    }
+
+    @AfterAll
+    static void stopAll() {
+        mvc.close();
+        reactive.close();
+        lightweight.stop();
+    }
+
+    // One of the two apps on a free port, without background CPU turns or hibernation
+    static ConfigurableApplicationContext start(String webApplicationType, String... extraProperties) {
+        return new SpringApplicationBuilder(UnoApplication.class)
+                .properties("server.port=0",
+                        "spring.main.web-application-type=" + webApplicationType,
+                        "spring.main.banner-mode=off",
+                        "spring.devtools.restart.enabled=false",
+                        "uno.cpu.scheduler.enabled=false",
+                        "uno.repository.hibernate-after=0")
+                .properties(extraProperties)
+                .run();
+    }
+
+    static String baseUrl(ConfigurableApplicationContext app) {
+        return "http://localhost:" + app.getEnvironment().getProperty("local.server.port") + "/api/games";
+    }
+
+    @Test
+    void exposeTheSameRoutes() {
+        assertThat(routes(ReactiveGameController.class)).isEqualTo(routes(GameController.class));
+    }
+
+    @Test
+    void answerTheSameScriptAlike() throws Exception {
+        List<String> fromMvc = runScript(baseUrl(mvc));
+        List<String> fromReactive = runScript(baseUrl(reactive));
+        List<String> fromLightweight = runScript("http://localhost:" + lightweight.port() + "/api/games");
+
+        assertThat(fromReactive).containsExactlyElementsOf(fromMvc);
+        assertThat(fromLightweight).containsExactlyElementsOf(fromMvc);
+        assertThat(fromMvc).hasSize(23);
+    }
+
+    // Status, content type, ETag and JSON shape of each step; values differ (ids, shuffles) so are left out
+    private static List<String> runScript(String base) throws Exception {
+        List<String> outcomes = new ArrayList<>();
+        HttpResponse<byte[]> start = send(post(base + "/start", null));
+        outcomes.add(describe("start", start));
+        String id = JSON.readTree(start.body()).get("gameId").asText();
+        String game = base + "/" + id;
+
+        outcomes.add(describe("state", send(get(game + "/state").build())));
+        outcomes.add(describe("state unchanged", send(get(game + "/state").header("If-None-Match", "\"1\"").build())));
+        outcomes.add(describe("binary state", send(get(game + "/state")
+                .header("Accept", "application/vnd.uno.game").build())));
+        outcomes.add(describe("draw", send(post(game + "/actions/draw", "{\"playerId\":\"0\"}"))));
+        outcomes.add(describe("stale draw", send(post(game + "/actions/draw",
+                "{\"playerId\":\"0\",\"expectedVersion\":0}"))));
+        outcomes.add(describe("wrong player", send(post(game + "/actions/draw", "{\"playerId\":\"2\"}"))));
+        // How many CPU turns ran depends on the shuffle, so only the top level is compared
+        outcomes.add(describe("fast-forward", send(post(game + "/actions/fast-forward", null)), false));
+        HttpResponse<byte[]> batch = send(post(game + "/actions/batch", "{\"commands\":[{\"type\":\"CPU_TURN\"}]}"));
+        outcomes.add(describe("batch", batch));
+        long version = JSON.readTree(batch.body()).get("state").get("version").asLong();
+        outcomes.add(describe("bulk", send(post(base + "/actions/bulk",
+                "{\"games\":[{\"gameId\":\"" + id + "\",\"commands\":[{\"type\":\"CPU_TURN\"}]}]}"))));
+        outcomes.add(describe("delta", send(get(game + "/delta?since=" + version).build())));
+        outcomes.add(describe("long poll timeout", send(get(game + "/state?waitAfter=99&timeoutMs=200").build())));
+        outcomes.add(describe("stats", send(get(base + "/state-cache/stats").build())));
+        // Responses without a binary form answer a binary Accept with JSON, not 406
+        outcomes.add(describe("binary start", send(post(base + "/start", null, BINARY))));
+        outcomes.add(describe("binary batch", send(post(game + "/actions/batch",
+                "{\"commands\":[{\"type\":\"CPU_TURN\"}]}", BINARY))));
+        outcomes.add(describe("binary bulk", send(post(base + "/actions/bulk",
+                "{\"games\":[{\"gameId\":\"" + id + "\",\"commands\":[]}]}", BINARY))));
+        outcomes.add(describe("binary delta", send(get(game + "/delta?since=" + version)
+                .header("Accept", BINARY).build())));
+        // Missing or malformed parameters and bodies are the client's fault: 400, not 500
+        outcomes.add(describe("delta without since", send(get(game + "/delta").build())));
+        outcomes.add(describe("bad since", send(get(game + "/delta?since=x").build())));
+        outcomes.add(describe("bad waitAfter", send(get(game + "/state?waitAfter=x").build())));
+        outcomes.add(describe("bad expectedVersion", send(post(game + "/actions/cpu-turn?expectedVersion=x", null))));
+        outcomes.add(describe("bad cpuDelayMs", send(post(base + "/start?cpuDelayMs=x", null))));
+        outcomes.add(describe("unreadable body", send(post(game + "/actions/draw", "{"))));
+        return outcomes;
+    }
+
+    private static String describe(String step, HttpResponse<byte[]> response) throws IOException {
+        return describe(step, response, true);
+    }
+
+    private static String describe(String step, HttpResponse<byte[]> response, boolean deep) throws IOException {
+        String type = response.headers().firstValue("Content-Type").map(t -> t.split(";")[0]).orElse("-");
+        String etag = response.headers().firstValue("ETag").isPresent() ? " etag" : "";
+        String shape = type.equals("application/json") ? " " + shape(JSON.readTree(response.body()), deep) : "";
+        return step + ": " + response.statusCode() + " " + type + etag + shape;
+    }
+
+    // Field paths of a JSON document (arrays by their first element)
+    private static Set<String> shape(JsonNode node, boolean deep) {
+        Set<String> paths = new TreeSet<>();
+        collect("", node, deep, paths);
+        // WebFlux's default error body adds a request id; the rest of it matches Boot's servlet one
+        paths.remove(".requestId");
+        return paths;
+    }
+
+    private static void collect(String prefix, JsonNode node, boolean deep, Set<String> paths) {
+        if (node.isArray() && node.size() > 0) {
+            collect(prefix + "[]", node.get(0), deep, paths);
+        } else if (node.isObject()) {
+            for (Iterator<String> names = node.fieldNames(); names.hasNext();) {
+                String name = names.next();
+                paths.add(prefix + "." + name);
+                if (deep) {
+                    collect(prefix + "." + name, node.get(name), true, paths);
+                }
+            }
+        }
+    }
+
+    private static Set<String> routes(Class<?> controller) {
+        Set<String> routes = new TreeSet<>();
+        for (Method method : controller.getDeclaredMethods()) {
+            RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+            if (mapping != null) {
+                routes.add(Arrays.toString(mapping.method()) + " " + Arrays.toString(mapping.path())
+                        + " params=" + Arrays.toString(mapping.params())
+                        + " produces=" + Arrays.toString(mapping.produces()));
+            }
+        }
+        return routes;
+    }
+
+    private static HttpRequest.Builder get(String url) {
+        return HttpRequest.newBuilder(URI.create(url));
+    }
+
+    private static HttpRequest post(String url, String json) {
+        return post(url, json, "application/json");
+    }
+
+    private static HttpRequest post(String url, String json, String accept) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .header("Accept", accept)
+                .POST(json == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    static HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        return HTTP.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
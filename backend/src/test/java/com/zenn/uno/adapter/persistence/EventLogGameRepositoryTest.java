@@ -0,0 +1,93 @@
+package com.zenn.uno.adapter.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.zenn.uno.TestGames;
+import com.zenn.uno.domain.model.Game;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EventLogGameRepositoryTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void committedGamesSurviveARestart() throws IOException {
+        InMemoryGameRepository cache = cache();
+        EventLogGameRepository repository = open(cache);
+        Game game = TestGames.started(1);
+        repository.compareAndSave(game, 0);
+        Game copy = repository.findForUpdate(game.getId()).orElseThrow();
+        copy.drawCards(copy.getPlayers().get(0), 2);
+        assertThat(repository.compareAndSave(copy, 1)).isTrue();
+        repository.close();
+        cache.shutdown();
+
+        InMemoryGameRepository restoredCache = cache();
+        EventLogGameRepository restored = open(restoredCache);
+        try {
+            Game loaded = restored.findById(game.getId()).orElseThrow();
+            assertThat(loaded.getVersion()).isEqualTo(2);
+            assertThat(loaded.getPlayers().get(0).getHand()).containsExactlyElementsOf(copy.getPlayers().get(0).getHand());
+        } finally {
+            restored.close();
+            restoredCache.shutdown();
+        }
+    }
+
+    @Test
+    void failedAppendPublishesNothing() throws IOException {
+        InMemoryGameRepository cache = cache();
+        EventLogGameRepository repository = open(cache);
+        Game game = TestGames.started(2);
+        repository.compareAndSave(game, 0);
+        Game copy = repository.findForUpdate(game.getId()).orElseThrow();
+        copy.drawCards(copy.getPlayers().get(0), 2);
+        repository.close(); // Every append fails from here on
+
+        assertThatThrownBy(() -> repository.compareAndSave(copy, 1)).hasRootCauseMessage("Game log is closed");
+
+        assertThat(repository.findById(game.getId())).containsSame(game);
+        assertThat(game.getVersion()).isEqualTo(1);
+        assertThat(copy.getVersion()).isEqualTo(1);
+        cache.shutdown();
+    }
+
+    @Test
+    void staleSaveIsNotLogged() throws IOException {
+        InMemoryGameRepository cache = cache();
+        EventLogGameRepository repository = open(cache);
+        Game game = TestGames.started(3);
+        repository.compareAndSave(game, 0);
+        Game stale = repository.findForUpdate(game.getId()).orElseThrow();
+        stale.drawCards(stale.getPlayers().get(0), 2);
+
+        assertThat(repository.compareAndSave(stale, 0)).isFalse();
+        repository.close();
+        cache.shutdown();
+
+        InMemoryGameRepository restoredCache = cache();
+        EventLogGameRepository restored = open(restoredCache);
+        try {
+            Game loaded = restored.findById(game.getId()).orElseThrow();
+            assertThat(loaded.getVersion()).isEqualTo(1);
+            assertThat(loaded.getPlayers().get(0).getHandSize()).isEqualTo(game.getPlayers().get(0).getHandSize());
+        } finally {
+            restored.close();
+            restoredCache.shutdown();
+        }
+    }
+
+    private static InMemoryGameRepository cache() {
+        return new InMemoryGameRepository(Duration.ofHours(1), Duration.ofHours(1), 1000, Duration.ofHours(1),
+                Duration.ZERO, "unused");
+    }
+
+    private EventLogGameRepository open(InMemoryGameRepository cache) throws IOException {
+        return new EventLogGameRepository(cache, dir.toString(), 1 << 20, 4);
+    }
+}
@@ -0,0 +1,82 @@
+package com.zenn.uno.adapter.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.zenn.uno.adapter.persistence.GameEventLog.RecordType;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GameEventLogTest {
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void anOversizedRecordFailsAloneAndIsNotReplayed() throws IOException {
+        GameEventLog log = new GameEventLog(dir, SEGMENT_SIZE, 4);
+        List<CompletableFuture<Void>> appends = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            appends.add(log.append(RecordType.PLAY, "game-" + i, new byte[] { (byte) i }));
+            if (i == 10) {
+                appends.add(log.append(RecordType.PLAY, "too-big", new byte[SEGMENT_SIZE]));
+            }
+        }
+
+        for (int i = 0; i < appends.size(); i++) {
+            CompletableFuture<Void> append = appends.get(i);
+            if (i == 11) {
+                assertThatThrownBy(append::join).hasRootCauseInstanceOf(IllegalArgumentException.class);
+            } else {
+                append.join();
+            }
+        }
+        log.close();
+
+        GameEventLog reopened = new GameEventLog(dir, SEGMENT_SIZE, 4);
+        try {
+            assertThat(reopened.recoveredStates()).hasSize(20).doesNotContainKey("too-big");
+            assertThat(reopened.recoveredStates().get("game-7")).containsExactly(7);
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    void recordsSpanningSegmentsAreReplayedInOrder() throws IOException {
+        GameEventLog log = new GameEventLog(dir, SEGMENT_SIZE, 100);
+        CompletableFuture<Void> last = null;
+        for (int i = 0; i < 200; i++) {
+            last = log.append(RecordType.PLAY, "game", new byte[] { (byte) i, 1, 2, 3, 4, 5, 6, 7 });
+        }
+        last.join();
+        log.close();
+
+        GameEventLog reopened = new GameEventLog(dir, SEGMENT_SIZE, 100);
+        try {
+            assertThat(reopened.recoveredStates().get("game")[0]).isEqualTo((byte) 199);
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    void appendsAfterCloseFailInsteadOfHanging() throws IOException {
+        GameEventLog log = new GameEventLog(dir, SEGMENT_SIZE, 4);
+        log.close();
+
+        CompletableFuture<Void> append = log.append(RecordType.PLAY, "game", new byte[] { 1 });
+
+        assertThat(append).failsWithin(1, TimeUnit.SECONDS);
+        assertThatThrownBy(append::join).isInstanceOf(CompletionException.class)
+                .hasRootCauseMessage("Game log is closed");
+    }
+}
@@ -0,0 +1,21 @@
+package com.zenn.uno.adapter.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GameHibernationStoreTest {
+
+    @Test
+    void idleExpiryCountsFromTheLastAccessNotTheWrite(@TempDir Path dir) {
+        GameHibernationStore store = new GameHibernationStore(dir);
+        long now = System.currentTimeMillis();
+        store.write("idle", new byte[] { 1 }, now - 60_000);
+        store.write("recent", new byte[] { 2 }, now - 1_000);
+
+        assertThat(store.lastAccessedBefore(now - 30_000)).containsExactly("idle");
+        assertThat(store.read("idle")).hasValueSatisfying(state -> assertThat(state).containsExactly(1));
+    }
+}
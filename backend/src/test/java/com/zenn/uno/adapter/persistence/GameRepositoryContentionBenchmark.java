@@ -0,0 +1,124 @@
+package com.zenn.uno.adapter.persistence;
+
+import com.zenn.uno.TestGames;
+import com.zenn.uno.application.input.GameCommandExecutor;
+import com.zenn.uno.domain.model.Game;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.core.env.StandardEnvironment;
+
+/**
+ * Update throughput under concurrent writers, all on one game or each on its
+ * own: raw compare-and-save with retry on conflict (copy, change, CAS), and
+ * the same update as commands through GameCommandExecutor, which serializes
+ * each game's writers so they never conflict.
+ * Not a test (surefire skips it); run with
+ *   mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *   java -cp target/classes:target/test-classes:$(cat target/cp.txt) \
+ *       com.zenn.uno.adapter.persistence.GameRepositoryContentionBenchmark
+ */
+public class GameRepositoryContentionBenchmark {
+    private static final int UPDATES_PER_WRITER = 100_000;
+
+    public static void main(String[] args) throws Exception {
+        InMemoryGameRepository repository = new InMemoryGameRepository(Duration.ofHours(1), Duration.ofHours(1),
+                100_000, Duration.ofHours(1), Duration.ZERO, "unused");
+        GameCommandExecutor executor = new GameCommandExecutor(0, new StandardEnvironment());
+
+        System.out.printf("%-9s %-10s %8s %14s %12s%n", "path", "games", "writers", "updates/s", "conflicts");
+        for (int round = 0; round < 2; round++) { // The first round is warm-up
+            for (int writers : new int[] { 1, 2, 4, 8, 16 }) {
+                for (boolean shared : new boolean[] { true, false }) {
+                    Result cas = casWriters(repository, writers, shared);
+                    Result commands = commandWriters(repository, executor, writers, shared);
+                    if (round == 1) {
+                        print("cas", shared, writers, cas);
+                        print("executor", shared, writers, commands);
+                    }
+                }
+            }
+        }
+        executor.shutdown();
+        repository.shutdown();
+    }
+
+    private static Result casWriters(InMemoryGameRepository repository, int writers, boolean shared)
+            throws InterruptedException {
+        List<String> ids = games(repository, writers, shared);
+        AtomicLong conflicts = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(writers);
+        long start = System.nanoTime();
+        for (int w = 0; w < writers; w++) {
+            String id = ids.get(w);
+            new Thread(() -> {
+                for (int i = 0; i < UPDATES_PER_WRITER; i++) {
+                    while (!update(repository, id)) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+        return new Result(writers * (long) UPDATES_PER_WRITER, System.nanoTime() - start, conflicts.get());
+    }
+
+    private static Result commandWriters(InMemoryGameRepository repository, GameCommandExecutor executor,
+            int writers, boolean shared) throws InterruptedException {
+        List<String> ids = games(repository, writers, shared);
+        AtomicLong conflicts = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(writers);
+        long start = System.nanoTime();
+        for (int w = 0; w < writers; w++) {
+            String id = ids.get(w);
+            new Thread(() -> {
+                CompletableFuture<Boolean> last = null;
+                for (int i = 0; i < UPDATES_PER_WRITER; i++) {
+                    last = executor.submit(id, () -> update(repository, id));
+                    last.thenAccept(saved -> {
+                        if (!saved) {
+                            conflicts.incrementAndGet();
+                        }
+                    });
+                }
+                last.join(); // One game's commands complete in order
+                done.countDown();
+            }).start();
+        }
+        done.await();
+        return new Result(writers * (long) UPDATES_PER_WRITER, System.nanoTime() - start, conflicts.get());
+    }
+
+    private static boolean update(InMemoryGameRepository repository, String id) {
+        Game copy = repository.findForUpdate(id).orElseThrow();
+        long base = copy.getVersion();
+        copy.setCpuTurnDelayMillis(copy.getCpuTurnDelayMillis() + 1);
+        return repository.compareAndSave(copy, base);
+    }
+
+    private static List<String> games(InMemoryGameRepository repository, int writers, boolean shared) {
+        List<String> ids = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            if (shared && w > 0) {
+                ids.add(ids.get(0));
+                continue;
+            }
+            Game game = TestGames.started(w);
+            repository.compareAndSave(game, 0);
+            ids.add(game.getId());
+        }
+        return ids;
+    }
+
+    private static void print(String path, boolean shared, int writers, Result r) {
+        System.out.printf("%-9s %-10s %8d %14.0f %12d%n", path, shared ? "one" : "one each", writers,
+                r.updates() / (r.nanos() / 1e9), r.conflicts());
+    }
+
+    private record Result(long updates, long nanos, long conflicts) {
+    }
+}
@@ -0,0 +1,131 @@
+package com.zenn.uno.adapter.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenn.uno.TestGames;
+import com.zenn.uno.application.input.TurnProcessingService;
+import com.zenn.uno.domain.model.Game;
+import com.zenn.uno.domain.model.Player;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Whole-game persistence: GameStateCodec against Jackson JSON of the same
+ * state (deck order, hands, discard pile, turn state; cards as Jackson writes
+ * Card), by player count, fresh and part-way through a game. Prints encoded
+ * size, then time and heap allocated per encode and per decode. The JSON
+ * decode only parses to a tree (Card has no Jackson constructor), so it is a
+ * lower bound. Java serialization is not an option: the model is not Serializable.
+ * Not a test (surefire skips it); run with
+ *   mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *   java -cp target/classes:target/test-classes:$(cat target/cp.txt) com.zenn.uno.adapter.persistence.GameStateCodecBenchmark
+ */
+public class GameStateCodecBenchmark {
+    private static final int ITERATIONS = 50_000;
+
+    public static void main(String[] args) throws Exception {
+        GameStateCodec codec = new GameStateCodec();
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long sink = 0;
+
+        System.out.printf("%-8s %-6s %8s %8s | %9s %9s %9s %9s | %9s %9s %9s %9s%n", "players", "turns",
+                "codec B", "json B", "enc ns", "enc B", "dec ns", "dec B", "json enc", "enc B", "json dec", "dec B");
+        for (int players : new int[] { 2, 4, 8 }) {
+            for (int turns : new int[] { 0, 40 }) {
+                Game game = game(players, turns);
+                byte[] encoded = codec.encode(game);
+                byte[] encodedJson = json.writeValueAsBytes(asJson(game));
+                long[] result = new long[8];
+                for (int round = 0; round < 3; round++) { // The last round is reported, after warm-up
+                    long bytes = threads.getCurrentThreadAllocatedBytes();
+                    long start = System.nanoTime();
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        sink += codec.encode(game).length;
+                    }
+                    result[0] = System.nanoTime() - start;
+                    result[1] = threads.getCurrentThreadAllocatedBytes() - bytes;
+
+                    bytes = threads.getCurrentThreadAllocatedBytes();
+                    start = System.nanoTime();
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        sink += codec.decode(encoded).getVersion();
+                    }
+                    result[2] = System.nanoTime() - start;
+                    result[3] = threads.getCurrentThreadAllocatedBytes() - bytes;
+
+                    bytes = threads.getCurrentThreadAllocatedBytes();
+                    start = System.nanoTime();
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        sink += json.writeValueAsBytes(asJson(game)).length;
+                    }
+                    result[4] = System.nanoTime() - start;
+                    result[5] = threads.getCurrentThreadAllocatedBytes() - bytes;
+
+                    bytes = threads.getCurrentThreadAllocatedBytes();
+                    start = System.nanoTime();
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        sink += json.readTree(encodedJson).size();
+                    }
+                    result[6] = System.nanoTime() - start;
+                    result[7] = threads.getCurrentThreadAllocatedBytes() - bytes;
+                }
+                System.out.printf("%-8d %-6d %8d %8d | %9d %9d %9d %9d | %9d %9d %9d %9d%n", players, turns,
+                        encoded.length, encodedJson.length,
+                        result[0] / ITERATIONS, result[1] / ITERATIONS, result[2] / ITERATIONS, result[3] / ITERATIONS,
+                        result[4] / ITERATIONS, result[5] / ITERATIONS, result[6] / ITERATIONS, result[7] / ITERATIONS);
+            }
+        }
+        System.out.println(sink != 0 ? "" : "?");
+    }
+
+    // The same state GameStateCodec keeps, as a JSON document
+    private static Map<String, Object> asJson(Game game) {
+        Map<String, Object> doc = new LinkedHashMap<>();
+        doc.put("id", game.getId());
+        doc.put("version", game.getVersion());
+        doc.put("cpuTurnDelayMillis", game.getCpuTurnDelayMillis());
+        doc.put("state", game.getState());
+        doc.put("currentColor", game.getCurrentColor());
+        doc.put("winnerId", game.getWinnerId());
+        doc.put("lastAction", game.getLastAction());
+        doc.put("currentIndex", game.getTurnManager().getCurrentIndex());
+        doc.put("direction", game.getTurnManager().getDirection());
+        List<Map<String, Object>> players = new ArrayList<>();
+        for (Player p : game.getPlayers()) {
+            Map<String, Object> player = new LinkedHashMap<>();
+            player.put("id", p.getId());
+            player.put("name", p.getName());
+            player.put("cpu", p.isCpu());
+            player.put("hand", p.getHand());
+            player.put("cardsPlayed", p.getCardsPlayed());
+            player.put("cardsDrawn", p.getCardsDrawn());
+            player.put("turnsTaken", p.getTurnsTaken());
+            players.add(player);
+        }
+        doc.put("players", players);
+        doc.put("deck", game.getDeck().getCards());
+        doc.put("deckRandomState", game.getDeck().getRandomState());
+        doc.put("discardPile", game.getDiscardPile());
+        return doc;
+    }
+
+    private static Game game(int playerCount, int turns) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new Player(String.valueOf(i), "CPU" + i, true));
+        }
+        Game game = new Game(players, new SplittableRandom(playerCount));
+        game.start();
+        TurnProcessingService turnService = TestGames.turnService();
+        for (int i = 0; i < turns && game.getState() == Game.GameState.PLAYING; i++) {
+            turnService.processSingleCpuTurn(game);
+            game.setVersion(game.getVersion() + 1);
+        }
+        return game;
+    }
+}
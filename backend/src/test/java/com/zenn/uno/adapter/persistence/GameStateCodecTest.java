@@ -0,0 +1,119 @@
+package com.zenn.uno.adapter.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.zenn.uno.TestGames;
+import com.zenn.uno.application.input.TurnProcessingService;
+import com.zenn.uno.domain.model.Deck;
+import com.zenn.uno.domain.model.Direction;
+import com.zenn.uno.domain.model.Game;
+import com.zenn.uno.domain.model.LastAction;
+import com.zenn.uno.domain.model.Player;
+import com.zenn.uno.domain.model.TurnManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class GameStateCodecTest {
+    private final GameStateCodec codec = new GameStateCodec();
+
+    @Test
+    void roundTripsAStartedGame() {
+        Game game = fixedGame();
+
+        Game decoded = codec.decode(codec.encode(game));
+
+        assertSameGame(decoded, game);
+        assertThat(codec.encode(decoded)).isEqualTo(codec.encode(game));
+    }
+
+    @Test
+    void roundTripsGamesPlayedToTheEnd() {
+        TurnProcessingService turns = TestGames.turnService();
+        for (int seed = 0; seed < 200; seed++) {
+            Game game = TestGames.playThrough(seed, turns, g -> assertSameGame(codec.decode(codec.encode(g)), g));
+
+            assertThat(game.getState()).isEqualTo(Game.GameState.FINISHED);
+        }
+    }
+
+    @Test
+    void keepsTheCpuDelayExactly() {
+        for (long delay : new long[] { Game.DEFAULT_CPU_TURN_DELAY, 0, 1, 5_000_000_000L }) {
+            Game game = fixedGame();
+            game.setCpuTurnDelayMillis(delay);
+
+            assertThat(codec.decode(codec.encode(game)).getCpuTurnDelayMillis()).isEqualTo(delay);
+        }
+    }
+
+    @Test
+    void decodedGamesReshuffleLikeTheOriginal() {
+        Game game = fixedGame();
+        Game decoded = codec.decode(codec.encode(game));
+
+        game.getDeck().refill(game.getDiscardPile());
+        decoded.getDeck().refill(decoded.getDiscardPile());
+
+        assertThat(decoded.getDeck().getRandomState()).isEqualTo(game.getDeck().getRandomState());
+        assertThat(decoded.getDeck().getCards()).containsExactlyElementsOf(game.getDeck().getCards());
+    }
+
+    @Test
+    void rejectsUnknownFormats() {
+        byte[] data = codec.encode(fixedGame());
+        data[0] = 99;
+
+        assertThatThrownBy(() -> codec.decode(data))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("99");
+    }
+
+    // Same every time: fixed id, seeded deck, restored turn state
+    private static Game fixedGame() {
+        List<Player> players = TestGames.players();
+        Game game = new Game("fixed-game", players, new Deck(new SplittableRandom(7)), new ArrayList<>(),
+                new TurnManager(players, 2, Direction.COUNTER_CLOCKWISE));
+        game.start();
+        game.setVersion(5);
+        game.setCpuTurnDelayMillis(250);
+        game.setLastAction(new LastAction("1", LastAction.ActionType.DRAW, null));
+        return game;
+    }
+
+    private static void assertSameGame(Game actual, Game expected) {
+        assertThat(actual.getId()).isEqualTo(expected.getId());
+        assertThat(actual.getVersion()).isEqualTo(expected.getVersion());
+        assertThat(actual.getCpuTurnDelayMillis()).isEqualTo(expected.getCpuTurnDelayMillis());
+        assertThat(actual.getState()).isEqualTo(expected.getState());
+        assertThat(actual.getCurrentColor()).isEqualTo(expected.getCurrentColor());
+        assertThat(actual.getWinnerId()).isEqualTo(expected.getWinnerId());
+        if (expected.getLastAction() == null) {
+            assertThat(actual.getLastAction()).isNull();
+        } else {
+            assertThat(actual.getLastAction().getPlayerId()).isEqualTo(expected.getLastAction().getPlayerId());
+            assertThat(actual.getLastAction().getType()).isEqualTo(expected.getLastAction().getType());
+            assertThat(actual.getLastAction().getCard()).isSameAs(expected.getLastAction().getCard());
+        }
+        assertThat(actual.getTurnManager().getCurrentIndex()).isEqualTo(expected.getTurnManager().getCurrentIndex());
+        assertThat(actual.getTurnManager().getDirection()).isEqualTo(expected.getTurnManager().getDirection());
+
+        assertThat(actual.getPlayers()).hasSameSizeAs(expected.getPlayers());
+        for (int i = 0; i < expected.getPlayers().size(); i++) {
+            Player a = actual.getPlayers().get(i);
+            Player e = expected.getPlayers().get(i);
+            assertThat(a.getId()).isEqualTo(e.getId());
+            assertThat(a.getName()).isEqualTo(e.getName());
+            assertThat(a.isCpu()).isEqualTo(e.isCpu());
+            assertThat(a.getHand()).containsExactlyElementsOf(e.getHand());
+            assertThat(a.getHand().mask()).isEqualTo(e.getHand().mask());
+            assertThat(a.getCardsPlayed()).isEqualTo(e.getCardsPlayed());
+            assertThat(a.getCardsDrawn()).isEqualTo(e.getCardsDrawn());
+            assertThat(a.getTurnsTaken()).isEqualTo(e.getTurnsTaken());
+        }
+        assertThat(actual.getDeck().getCards()).containsExactlyElementsOf(expected.getDeck().getCards());
+        assertThat(actual.getDiscardPile()).containsExactlyElementsOf(expected.getDiscardPile());
+    }
+}
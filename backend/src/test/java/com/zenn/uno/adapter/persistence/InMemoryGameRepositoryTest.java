@@ -0,0 +1,193 @@
+package com.zenn.uno.adapter.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.zenn.uno.TestGames;
+import com.zenn.uno.domain.model.Card;
+import com.zenn.uno.domain.model.Game;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class InMemoryGameRepositoryTest {
+    private final InMemoryGameRepository repository = new InMemoryGameRepository(Duration.ofHours(1),
+            Duration.ofHours(1), 1000, Duration.ofHours(1), Duration.ZERO, "unused");
+
+    @AfterEach
+    void shutdown() {
+        repository.shutdown();
+    }
+
+    @Test
+    void compareAndSavePublishesTheCopyWithTheNextVersion() {
+        Game game = TestGames.started(1);
+        assertThat(repository.compareAndSave(game, 0)).isTrue();
+
+        Game copy = repository.findForUpdate(game.getId()).orElseThrow();
+        copy.drawCards(copy.getPlayers().get(0), 1);
+
+        assertThat(repository.compareAndSave(copy, 1)).isTrue();
+        assertThat(repository.findById(game.getId())).containsSame(copy);
+        assertThat(copy.getVersion()).isEqualTo(2);
+    }
+
+    @Test
+    void findForUpdateIsIndependentOfTheStoredGame() {
+        Game game = TestGames.started(2);
+        repository.compareAndSave(game, 0);
+        int handSize = game.getPlayers().get(0).getHandSize();
+        int deckSize = game.getDeck().size();
+
+        Game copy = repository.findForUpdate(game.getId()).orElseThrow();
+        copy.playCard(copy.getPlayers().get(0), copy.getPlayers().get(0).getHand().get(0));
+        copy.drawCards(copy.getPlayers().get(1), 3);
+        copy.getTurnManager().reverse();
+        copy.getTurnManager().nextTurn();
+
+        assertThat(game.getPlayers().get(0).getHandSize()).isEqualTo(handSize);
+        assertThat(game.getPlayers().get(1).getHandSize()).isEqualTo(4);
+        assertThat(game.getDeck().size()).isEqualTo(deckSize);
+        assertThat(game.getDiscardPile()).hasSize(1);
+        assertThat(game.getTurnManager().getCurrentIndex()).isZero();
+        assertThat(copy.getTurnManager().getCurrentPlayer()).isSameAs(copy.getPlayers().get(3));
+    }
+
+    @Test
+    void staleSaveLeavesTheStoredGameAlone() {
+        Game game = TestGames.started(3);
+        repository.compareAndSave(game, 0);
+        Game first = repository.findForUpdate(game.getId()).orElseThrow();
+        Game second = repository.findForUpdate(game.getId()).orElseThrow();
+        assertThat(repository.compareAndSave(first, 1)).isTrue();
+
+        second.getPlayers().get(0).addCard(Card.of(0));
+
+        assertThat(repository.compareAndSave(second, 1)).isFalse();
+        Game stored = repository.findById(game.getId()).orElseThrow();
+        assertThat(stored).isSameAs(first);
+        assertThat(stored.getPlayers().get(0).getHandSize()).isEqualTo(4);
+        assertThat(stored.getVersion()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsTheStoredInstanceChangedInPlace() {
+        Game game = TestGames.started(4);
+        repository.compareAndSave(game, 0);
+        Game stored = repository.findById(game.getId()).orElseThrow();
+
+        assertThatThrownBy(() -> repository.compareAndSave(stored, stored.getVersion()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void finishedRetentionCountsFromTheFinishingSave() throws InterruptedException {
+        InMemoryGameRepository shortRetention = new InMemoryGameRepository(Duration.ofHours(1),
+                Duration.ofMillis(50), 1000, Duration.ofHours(1), Duration.ZERO, "unused");
+        try {
+            Game game = TestGames.started(6);
+            shortRetention.compareAndSave(game, 0);
+            Game finished = shortRetention.findForUpdate(game.getId()).orElseThrow();
+            finished.setState(Game.GameState.FINISHED);
+            shortRetention.compareAndSave(finished, 1);
+            Thread.sleep(60);
+
+            shortRetention.sweep(); // The first sweep to see it already finds it past retention
+
+            assertThat(shortRetention.size()).isZero();
+            assertThat(shortRetention.getEvictionCounts())
+                    .containsEntry(InMemoryGameRepository.EvictionReason.FINISHED, 1L);
+        } finally {
+            shortRetention.shutdown();
+        }
+    }
+
+    @Test
+    void savesAreNotCountedAsReads() {
+        Game game = TestGames.started(7);
+        repository.compareAndSave(game, 0);
+        Game copy = repository.findForUpdate(game.getId()).orElseThrow();
+        long hits = repository.getHibernationStats().hits();
+
+        repository.compareAndSave(copy, 1);
+
+        assertThat(repository.getHibernationStats().hits()).isEqualTo(hits);
+    }
+
+    @Test
+    void concurrentFindsRehydrateAHibernatedGameOnce(@TempDir Path dir) throws Exception {
+        InMemoryGameRepository hibernating = new InMemoryGameRepository(Duration.ofHours(1),
+                Duration.ofHours(1), 1000, Duration.ofHours(1), Duration.ofMillis(1), dir.toString());
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            Game game = TestGames.started(8);
+            hibernating.restore(game);
+            Thread.sleep(5);
+            hibernating.sweep();
+            assertThat(hibernating.size()).isZero();
+            AtomicInteger loads = new AtomicInteger();
+            hibernating.addLoadListener(g -> loads.incrementAndGet());
+
+            List<Future<Game>> finds = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                finds.add(pool.submit(() -> hibernating.findById(game.getId()).orElseThrow()));
+            }
+            Game first = finds.get(0).get();
+            for (Future<Game> find : finds) {
+                assertThat(find.get()).isSameAs(first);
+            }
+
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(hibernating.getHibernationStats().rehydrated()).isEqualTo(1);
+            assertThat(first.getVersion()).isEqualTo(game.getVersion());
+        } finally {
+            pool.shutdown();
+            hibernating.shutdown();
+        }
+    }
+
+    @Test
+    void racingWritersNeverLoseAnUpdate() throws Exception {
+        Game game = TestGames.started(5);
+        game.setCpuTurnDelayMillis(0); // Used as the counter
+        repository.compareAndSave(game, 0);
+        int writers = 8;
+        int updatesEach = 500;
+
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        List<Future<Integer>> conflicts = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            conflicts.add(pool.submit(() -> {
+                int lost = 0;
+                for (int i = 0; i < updatesEach; i++) {
+                    while (true) {
+                        Game copy = repository.findForUpdate(game.getId()).orElseThrow();
+                        long base = copy.getVersion();
+                        copy.setCpuTurnDelayMillis(copy.getCpuTurnDelayMillis() + 1);
+                        if (repository.compareAndSave(copy, base)) {
+                            break;
+                        }
+                        lost++;
+                    }
+                }
+                return lost;
+            }));
+        }
+        for (Future<Integer> f : conflicts) {
+            f.get();
+        }
+        pool.shutdown();
+
+        Game stored = repository.findById(game.getId()).orElseThrow();
+        assertThat(stored.getCpuTurnDelayMillis()).isEqualTo(writers * updatesEach);
+        assertThat(stored.getVersion()).isEqualTo(1 + writers * updatesEach);
+    }
+}
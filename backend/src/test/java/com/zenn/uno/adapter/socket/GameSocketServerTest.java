@@ -0,0 +1,200 @@
+package com.zenn.uno.adapter.socket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zenn.uno.UnoApplication;
+import com.zenn.uno.adapter.web.GameBinaryFormat;
+import com.zenn.uno.adapter.web.dto.GameDto;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// Real round trips over the binary protocol: framing, malformed frames, pipelining and per-game order
+class GameSocketServerTest {
+    private static ConfigurableApplicationContext app;
+    private static int port;
+
+    private Socket socket;
+    private DataInputStream in;
+
+    @BeforeAll
+    static void startServer() {
+        app = new SpringApplicationBuilder(UnoApplication.class)
+                .properties("spring.main.web-application-type=none",
+                        "spring.main.banner-mode=off",
+                        "spring.devtools.restart.enabled=false",
+                        "uno.cpu.scheduler.enabled=false",
+                        "uno.repository.hibernate-after=0",
+                        "uno.socket.enabled=true",
+                        "uno.socket.port=0")
+                .run();
+        port = app.getBean(GameSocketServer.class).port();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        app.close();
+    }
+
+    @BeforeEach
+    void connect() throws IOException {
+        socket = new Socket("localhost", port);
+        socket.setSoTimeout(10_000);
+        in = new DataInputStream(socket.getInputStream());
+    }
+
+    @AfterEach
+    void disconnect() throws IOException {
+        socket.close();
+    }
+
+    @Test
+    void framesSplitAcrossWritesOrSharingOneAreAllAnswered() throws IOException {
+        byte[] first = start(1);
+        byte[] second = start(2);
+        OutputStream out = socket.getOutputStream();
+        out.write(first, 0, 3); // Not even the length yet
+        out.flush();
+        sleepBriefly();
+        out.write(first, 3, first.length - 3);
+        out.write(second); // Same segment as the tail of the first
+        out.flush();
+
+        Frame a = readFrame();
+        Frame b = readFrame();
+
+        assertThat(a.type).isEqualTo(GameSocketServer.REPLY);
+        assertThat(b.type).isEqualTo(GameSocketServer.REPLY);
+        assertThat(a.requestId + b.requestId).isEqualTo(3);
+        assertThat(a.game().getId()).isNotEqualTo(b.game().getId());
+    }
+
+    @Test
+    void malformedPayloadsGetAnErrorAndTheConnectionStaysUsable() throws IOException {
+        send(frame('Z', 1, out -> { }));
+        send(frame(GameSocketServer.PLAY, 2, out -> out.writeUTF("game"))); // Truncated
+        send(start(3));
+
+        Frame unknown = readFrame();
+        Frame truncated = readFrame();
+        Frame started = readFrame();
+
+        assertThat(unknown.type).isEqualTo(GameSocketServer.ERROR);
+        assertThat(unknown.message()).isEqualTo("Unknown request type: 90");
+        assertThat(truncated.type).isEqualTo(GameSocketServer.ERROR);
+        assertThat(truncated.requestId).isEqualTo(2);
+        assertThat(truncated.message()).isEqualTo("Malformed request");
+        assertThat(started.type).isEqualTo(GameSocketServer.REPLY);
+        assertThat(started.requestId).isEqualTo(3);
+    }
+
+    @Test
+    void aBadFrameLengthClosesTheConnection() throws IOException {
+        DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+        out.writeInt(1 << 20);
+        out.flush();
+
+        assertThat(in.read()).isEqualTo(-1);
+    }
+
+    @Test
+    void pipelinedCommandsForOneGameAreAnsweredInOrderPastTheInFlightLimit() throws IOException {
+        send(start(0));
+        String gameId = readFrame().game().getId();
+        int count = GameSocketServer.MAX_IN_FLIGHT * 3;
+
+        ByteArrayOutputStream pipeline = new ByteArrayOutputStream();
+        pipeline.write(frame(GameSocketServer.DRAW, 1, out -> {
+            out.writeUTF(gameId);
+            out.writeUTF("0");
+            out.writeLong(-1);
+        }));
+        for (int i = 2; i <= count; i++) {
+            pipeline.write(frame(GameSocketServer.CPU_TURN, i, out -> {
+                out.writeUTF(gameId);
+                out.writeLong(-1);
+            }));
+        }
+        send(pipeline.toByteArray()); // All at once, far more than MAX_IN_FLIGHT
+
+        long version = -1;
+        for (int i = 1; i <= count; i++) {
+            Frame reply = readFrame();
+            assertThat(reply.requestId).isEqualTo(i);
+            if (reply.type == GameSocketServer.REPLY) {
+                assertThat(reply.game().getVersion()).isGreaterThanOrEqualTo(version);
+                version = reply.game().getVersion();
+            } else {
+                assertThat(reply.type).isEqualTo(GameSocketServer.ERROR); // e.g. the game is over
+            }
+        }
+        assertThat(version).isPositive();
+    }
+
+    @FunctionalInterface
+    private interface Payload {
+        void writeTo(DataOutputStream out) throws IOException;
+    }
+
+    private static byte[] start(int requestId) throws IOException {
+        return frame(GameSocketServer.START, requestId, out -> out.writeLong(-1));
+    }
+
+    private static byte[] frame(int type, int requestId, Payload payload) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(body);
+        out.writeByte(type);
+        out.writeInt(requestId);
+        payload.writeTo(out);
+        ByteArrayOutputStream frame = new ByteArrayOutputStream();
+        new DataOutputStream(frame).writeInt(body.size());
+        body.writeTo(frame);
+        return frame.toByteArray();
+    }
+
+    private void send(byte[] bytes) throws IOException {
+        socket.getOutputStream().write(bytes);
+        socket.getOutputStream().flush();
+    }
+
+    private Frame readFrame() throws IOException {
+        byte[] body = new byte[in.readInt()];
+        in.readFully(body);
+        DataInputStream frame = new DataInputStream(new ByteArrayInputStream(body));
+        int type = frame.readUnsignedByte();
+        int requestId = frame.readInt();
+        return new Frame(type, requestId, frame);
+    }
+
+    private static void sleepBriefly() {
+        try {
+            Thread.sleep(50); // Lets the server see the partial frame on its own
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Frame(int type, int requestId, DataInputStream payload) {
+        GameDto game() throws IOException {
+            payload.mark(Integer.MAX_VALUE);
+            GameDto game = (GameDto) GameBinaryFormat.read(payload);
+            payload.reset();
+            return game;
+        }
+
+        String message() throws IOException {
+            return payload.readUTF();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.zenn.uno.adapter.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenn.uno.TestGames;
+import com.zenn.uno.adapter.web.dto.FastForwardDto;
+import com.zenn.uno.adapter.web.dto.GameDto;
+import com.zenn.uno.application.input.TurnProcessingService;
+import com.zenn.uno.domain.model.Card;
+import com.zenn.uno.domain.model.CardType;
+import com.zenn.uno.domain.model.Game;
+import com.zenn.uno.domain.model.LastAction;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// The binary responses must carry exactly what the JSON ones do
+class GameBinaryFormatTest {
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build(); // As Spring Boot configures it
+
+    @Test
+    void gameDecodesToTheSameJsonAsTheDto() {
+        TurnProcessingService turns = TestGames.turnService();
+        for (int seed = 0; seed < 100; seed++) {
+            Game game = TestGames.playThrough(seed, turns, g -> assertEquivalent(GameDto.from(g)));
+
+            assertThat(game.getWinnerId()).isNotNull(); // The winner index path is covered too
+        }
+    }
+
+    @Test
+    void keepsNonAsciiNamesAndAnEmptyHand() {
+        GameDto dto = GameDto.from(TestGames.started(1));
+        dto.getPlayers().get(2).setName("プレイヤー２");
+        dto.setMyHand(List.of());
+        dto.setCurrentColor(null);
+
+        assertEquivalent(dto);
+    }
+
+    @Test
+    void fastForwardDecodesToTheSameJson() {
+        TurnProcessingService turns = TestGames.turnService();
+        Game game = TestGames.started(3);
+        List<LastAction> actions = new ArrayList<>();
+        actions.add(new LastAction("1", LastAction.ActionType.PLAY, Card.createWild(CardType.WILD_DRAW4)));
+        for (int i = 0; i < 20 && turns.processSingleCpuTurn(game); i++) {
+            actions.add(game.getLastAction());
+        }
+        actions.add(new LastAction("2", LastAction.ActionType.PASS, null));
+        FastForwardDto result = new FastForwardDto(actions, GameDto.from(game));
+
+        Object decoded = decode(GameBinaryFormat.encode(result));
+
+        assertThat(decoded).isInstanceOf(FastForwardDto.class);
+        assertThat(tree(decoded)).isEqualTo(tree(result));
+    }
+
+    @Test
+    void onlyAnExplicitAcceptSelectsBinary() {
+        assertThat(GameBinaryFormat.isRequestedBy("application/vnd.uno.game")).isTrue();
+        assertThat(GameBinaryFormat.isRequestedBy("application/json;q=0.5, application/vnd.uno.game")).isTrue();
+        assertThat(GameBinaryFormat.isRequestedBy("*/*")).isFalse();
+        assertThat(GameBinaryFormat.isRequestedBy("application/*")).isFalse();
+        assertThat(GameBinaryFormat.isRequestedBy("application/json")).isFalse();
+        assertThat(GameBinaryFormat.isRequestedBy(null)).isFalse();
+    }
+
+    @Test
+    void aBinaryAcceptAlsoAcceptsJsonAfterIt() {
+        assertThat(GameBinaryFormat.withJsonFallback(MediaType.parseMediaTypes("application/vnd.uno.game")))
+                .containsExactly(GameBinaryFormat.MEDIA_TYPE, MediaType.APPLICATION_JSON);
+        assertThat(GameBinaryFormat.withJsonFallback(MediaType.parseMediaTypes("application/vnd.uno.game, */*;q=0.1")))
+                .hasSize(2); // JSON is already acceptable
+        assertThat(GameBinaryFormat.withJsonFallback(MediaType.parseMediaTypes("text/plain")))
+                .containsExactly(MediaType.TEXT_PLAIN);
+    }
+
+    private void assertEquivalent(GameDto dto) {
+        Object decoded = decode(GameBinaryFormat.encode(dto));
+
+        assertThat(decoded).isInstanceOf(GameDto.class);
+        assertThat(tree(decoded)).isEqualTo(tree(dto));
+    }
+
+    private static Object decode(byte[] bytes) {
+        try {
+            return GameBinaryFormat.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonNode tree(Object value) {
+        return json.valueToTree(value);
+    }
+}
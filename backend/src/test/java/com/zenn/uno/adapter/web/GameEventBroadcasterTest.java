@@ -0,0 +1,97 @@
+package com.zenn.uno.adapter.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zenn.uno.TestGames;
+import com.zenn.uno.adapter.web.dto.GameEventDto;
+import com.zenn.uno.domain.model.Game;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class GameEventBroadcasterTest {
+    // One push thread, so a stuck send would hold every subscriber without the watchdog
+    private final GameEventBroadcaster broadcaster = new GameEventBroadcaster(1, 16, Duration.ofMillis(100));
+
+    @AfterEach
+    void shutdown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void deliversInOrderToEverySubscriber() throws InterruptedException {
+        Game game = TestGames.started(1);
+        List<Long> first = new CopyOnWriteArrayList<>();
+        List<Long> second = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(6);
+        broadcaster.subscribe(game.getId(), event -> {
+            first.add(event.getVersion());
+            delivered.countDown();
+        });
+        broadcaster.subscribe(game.getId(), event -> {
+            second.add(event.getVersion());
+            delivered.countDown();
+        });
+
+        for (int v = 1; v <= 3; v++) {
+            game.setVersion(v);
+            broadcaster.publish(game);
+        }
+
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(first).containsExactly(1L, 2L, 3L);
+        assertThat(second).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void aStuckSubscriberIsDroppedWithoutHoldingTheOthers() throws InterruptedException {
+        Game slowGame = TestGames.started(2);
+        Game game = TestGames.started(3);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger slowSends = new AtomicInteger();
+        CountDownLatch stallHandled = new CountDownLatch(1);
+        GameEventBroadcaster.Subscription slow = broadcaster.subscribe(slowGame.getId(), event -> {
+            slowSends.incrementAndGet();
+            release.await(); // A client that stopped reading
+        });
+        slow.onStalled(stallHandled::countDown);
+        CountDownLatch firstDelivered = new CountDownLatch(1);
+        CountDownLatch secondDelivered = new CountDownLatch(1);
+        broadcaster.subscribe(game.getId(),
+                event -> (event.getVersion() == 1 ? firstDelivered : secondDelivered).countDown());
+
+        broadcaster.publish(slowGame);
+        game.setVersion(1);
+        broadcaster.publish(game);
+
+        // Queued behind the stuck send on the only push thread: arrives once the watchdog steps in
+        assertThat(firstDelivered.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+        assertThat(stallHandled.await(5, TimeUnit.SECONDS)).isTrue(); // Dropped by now
+        broadcaster.publish(slowGame); // No longer subscribed: never queued
+        game.setVersion(2);
+        broadcaster.publish(game);
+
+        assertThat(secondDelivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(slowSends).hasValue(1);
+    }
+
+    @Test
+    void cancelledSubscribersGetNothing() throws InterruptedException {
+        Game game = TestGames.started(4);
+        List<GameEventDto> events = new CopyOnWriteArrayList<>();
+        broadcaster.subscribe(game.getId(), events::add).cancel();
+        CountDownLatch delivered = new CountDownLatch(1);
+        broadcaster.subscribe(game.getId(), event -> delivered.countDown());
+
+        broadcaster.publish(game);
+
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(events).isEmpty();
+    }
+}
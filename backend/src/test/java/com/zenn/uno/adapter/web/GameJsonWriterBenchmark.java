@@ -0,0 +1,89 @@
+package com.zenn.uno.adapter.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenn.uno.adapter.web.dto.GameDto;
+import com.zenn.uno.domain.model.Game;
+import com.zenn.uno.domain.model.Player;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * /state JSON: GameJsonWriter against GameDto.from + Jackson, by player count
+ * and size of the human's hand. Prints time and heap allocated per encoding,
+ * then the writer's allocation when every call runs on a new thread (as with
+ * a virtual thread per request).
+ * Not a test (surefire skips it); run with
+ *   mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *   java -cp target/classes:target/test-classes:$(cat target/cp.txt) com.zenn.uno.adapter.web.GameJsonWriterBenchmark
+ */
+public class GameJsonWriterBenchmark {
+    private static final int ITERATIONS = 200_000;
+    private static final int THREAD_PER_CALL_ITERATIONS = 20_000;
+
+    public static void main(String[] args) throws Exception {
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long sink = 0;
+
+        System.out.printf("%-8s %-6s %14s %14s %14s %14s%n", "players", "hand", "writer ns", "writer B", "jackson ns",
+                "jackson B");
+        for (int players : new int[] { 2, 4, 8 }) {
+            for (int hand : new int[] { 4, 20, 60 }) {
+                Game game = game(players, hand);
+                for (int round = 0; round < 3; round++) { // The last round is reported, after warm-up
+                    long bytes = threads.getCurrentThreadAllocatedBytes();
+                    long start = System.nanoTime();
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        sink += GameJsonWriter.toBytes(game).length;
+                    }
+                    long writerNanos = System.nanoTime() - start;
+                    long writerBytes = threads.getCurrentThreadAllocatedBytes() - bytes;
+
+                    bytes = threads.getCurrentThreadAllocatedBytes();
+                    start = System.nanoTime();
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        sink += json.writeValueAsBytes(GameDto.from(game)).length;
+                    }
+                    long jacksonNanos = System.nanoTime() - start;
+                    long jacksonBytes = threads.getCurrentThreadAllocatedBytes() - bytes;
+
+                    if (round == 2) {
+                        System.out.printf("%-8d %-6d %14d %14d %14d %14d%n", players, hand,
+                                writerNanos / ITERATIONS, writerBytes / ITERATIONS,
+                                jacksonNanos / ITERATIONS, jacksonBytes / ITERATIONS);
+                    }
+                }
+            }
+        }
+        System.out.println(sink > 0 ? "" : "?");
+
+        Game game = game(4, 20);
+        AtomicLong allocated = new AtomicLong();
+        for (int i = 0; i < THREAD_PER_CALL_ITERATIONS; i++) {
+            Thread t = new Thread(() -> {
+                long before = threads.getCurrentThreadAllocatedBytes();
+                GameJsonWriter.toBytes(game);
+                allocated.addAndGet(threads.getCurrentThreadAllocatedBytes() - before);
+            });
+            t.start();
+            t.join();
+        }
+        System.out.printf("thread per call, 4 players, hand 20: writer B %d%n",
+                allocated.get() / THREAD_PER_CALL_ITERATIONS);
+    }
+
+    private static Game game(int playerCount, int handSize) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new Player(String.valueOf(i), i == 0 ? "You" : "CPU" + i, i > 0));
+        }
+        Game game = new Game(players, new SplittableRandom(handSize));
+        game.start();
+        game.drawCards(players.get(0), handSize - 4);
+        return game;
+    }
+}
@@ -0,0 +1,67 @@
+package com.zenn.uno.adapter.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenn.uno.TestGames;
+import com.zenn.uno.adapter.web.dto.GameDto;
+import com.zenn.uno.application.input.TurnProcessingService;
+import com.zenn.uno.domain.model.Game;
+import com.zenn.uno.domain.model.Player;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// The hand-written /state JSON must be byte for byte what Jackson makes of GameDto
+class GameJsonWriterTest {
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build(); // As Spring Boot configures it
+
+    @Test
+    void matchesJacksonOnEveryTurnOfPlayedGames() {
+        TurnProcessingService turns = TestGames.turnService();
+        for (int seed = 0; seed < 100; seed++) {
+            TestGames.playThrough(seed, turns, this::assertSameAsJackson);
+        }
+    }
+
+    @Test
+    void escapesNamesLikeJackson() {
+        List<Player> players = new ArrayList<>();
+        players.add(new Player("0", "quote\" backslash\\ slash/", false));
+        players.add(new Player("1", "tab\t nl\n cr\r bs\b ff\f nul\u0000 us\u001f del\u007f", true));
+        players.add(new Player("2", "é ß ü — プレイヤー", true));
+        players.add(new Player("id-😀", "emoji 😀🂡", true));
+        Game game = new Game(players, new SplittableRandom(4));
+        game.start();
+
+        assertSameAsJackson(game);
+    }
+
+    @Test
+    void growsPastTheInitialBufferForBigTables() {
+        for (int playerCount : new int[] { 2, 4, 8 }) {
+            List<Player> players = new ArrayList<>();
+            for (int i = 0; i < playerCount; i++) {
+                players.add(new Player(String.valueOf(i), "Player with a fairly long display name " + i, i > 0));
+            }
+            Game game = new Game(players, new SplittableRandom(playerCount));
+            game.start();
+            game.drawCards(players.get(0), 112 - 4 * playerCount - 1); // The whole deck in one hand
+
+            assertSameAsJackson(game);
+        }
+    }
+
+    private void assertSameAsJackson(Game game) {
+        try {
+            String expected = json.writeValueAsString(GameDto.from(game));
+            assertThat(new String(GameJsonWriter.toBytes(game), StandardCharsets.UTF_8)).isEqualTo(expected);
+        } catch (JsonProcessingException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
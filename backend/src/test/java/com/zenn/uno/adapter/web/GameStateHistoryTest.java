@@ -0,0 +1,142 @@
+package com.zenn.uno.adapter.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenn.uno.TestGames;
+import com.zenn.uno.adapter.web.dto.GameDeltaDto;
+import com.zenn.uno.adapter.web.dto.GameDto;
+import com.zenn.uno.application.input.TurnProcessingService;
+import com.zenn.uno.domain.model.Card;
+import com.zenn.uno.domain.model.Game;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// A client that applies every delta it is sent must end up with what /state would serve
+class GameStateHistoryTest {
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void appliedDeltasMatchTheStateOnEveryTurn() {
+        TurnProcessingService turns = TestGames.turnService();
+        for (int seed = 0; seed < 50; seed++) {
+            GameStateHistory history = new GameStateHistory(16, 100);
+            GameDto[] client = new GameDto[1];
+            int[] deltas = new int[1];
+            int pollEvery = 1 + seed % 3; // Also diff across several commits
+            TestGames.playThrough(seed, turns, game -> {
+                history.publish(game); // As GameCommitService does after each commit
+                if (client[0] != null && game.getVersion() % pollEvery != 0) {
+                    return;
+                }
+                long since = client[0] == null ? -1 : client[0].getVersion();
+                GameDeltaDto delta = history.delta(game.getId(), since, game.getVersion(), () -> GameDto.from(game));
+                if (client[0] != null) {
+                    assertThat(delta.isFull()).isFalse();
+                    deltas[0]++;
+                }
+                client[0] = apply(client[0], delta);
+                assertThat(tree(client[0])).isEqualTo(tree(GameDto.from(game)));
+            });
+            assertThat(deltas[0]).isPositive();
+        }
+    }
+
+    @Test
+    void recordsNothingForGamesWithoutADeltaReader() {
+        GameStateHistory history = new GameStateHistory(16, 100);
+        Game game = TestGames.started(1);
+        history.publish(game);
+
+        GameDeltaDto delta = history.delta(game.getId(), game.getVersion(), game.getVersion(),
+                () -> GameDto.from(game));
+
+        assertThat(delta.isFull()).isTrue(); // Tracking starts with this request
+    }
+
+    @Test
+    void fieldsThatBecomeNullAreCleared() {
+        GameDto from = GameDto.from(TestGames.started(2));
+        from.setWinnerId("1");
+        GameDto to = copy(from);
+        to.setVersion(from.getVersion() + 1);
+        to.setTopCard(null);
+        to.setWinnerId(null);
+
+        GameDeltaDto delta = GameDeltaDto.between(from, to);
+
+        assertThat(delta.getCleared()).containsExactly("topCard", "winnerId");
+        assertThat(tree(apply(from, delta))).isEqualTo(tree(to));
+    }
+
+    // What a client does with a delta
+    private GameDto apply(GameDto base, GameDeltaDto delta) {
+        if (delta.isFull()) {
+            return copy(delta.getSnapshot());
+        }
+        assertThat(delta.getFromVersion()).isEqualTo(base.getVersion());
+        GameDto next = copy(base);
+        next.setVersion(delta.getToVersion());
+        if (delta.getState() != null) {
+            next.setState(delta.getState());
+        }
+        if (delta.getCurrentColor() != null) {
+            next.setCurrentColor(delta.getCurrentColor());
+        }
+        if (delta.getTopCard() != null) {
+            next.setTopCard(delta.getTopCard());
+        }
+        if (delta.getDirection() != null) {
+            next.setDirection(delta.getDirection());
+        }
+        if (delta.getCurrentPlayerIndex() != null) {
+            next.setCurrentPlayerIndex(delta.getCurrentPlayerIndex());
+        }
+        if (delta.getWinnerId() != null) {
+            next.setWinnerId(delta.getWinnerId());
+        }
+        if (delta.getCleared() != null) {
+            for (String field : delta.getCleared()) {
+                switch (field) {
+                    case "topCard" -> next.setTopCard(null);
+                    case "winnerId" -> next.setWinnerId(null);
+                    default -> throw new AssertionError(field);
+                }
+            }
+        }
+        if (delta.getHandSizes() != null) {
+            for (GameDto.PlayerDto player : next.getPlayers()) {
+                Integer size = delta.getHandSizes().get(player.getId());
+                if (size != null) {
+                    player.setHandSize(size);
+                }
+            }
+        }
+        if (delta.getMyHand() != null) {
+            next.setMyHand(new ArrayList<>(delta.getMyHand()));
+        } else {
+            List<Card> hand = new ArrayList<>(next.getMyHand());
+            if (delta.getHandRemoved() != null) {
+                for (int i = delta.getHandRemoved().size() - 1; i >= 0; i--) {
+                    hand.remove((int) delta.getHandRemoved().get(i));
+                }
+            }
+            if (delta.getHandAdded() != null) {
+                hand.addAll(delta.getHandAdded());
+            }
+            next.setMyHand(hand);
+        }
+        return next;
+    }
+
+    private GameDto copy(GameDto dto) {
+        return json.convertValue(tree(dto), GameDto.class);
+    }
+
+    private JsonNode tree(GameDto dto) {
+        return json.valueToTree(dto);
+    }
+}
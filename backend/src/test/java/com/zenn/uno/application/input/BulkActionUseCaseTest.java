@@ -0,0 +1,60 @@
+package com.zenn.uno.application.input;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zenn.uno.TestGames;
+import com.zenn.uno.adapter.persistence.InMemoryGameRepository;
+import com.zenn.uno.adapter.web.dto.BulkResultDto;
+import com.zenn.uno.adapter.web.dto.BulkResultDto.Status;
+import com.zenn.uno.application.input.BatchActionUseCase.Command;
+import com.zenn.uno.application.input.BatchActionUseCase.CommandType;
+import com.zenn.uno.application.input.BulkActionUseCase.GameBatch;
+import com.zenn.uno.domain.model.Game;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class BulkActionUseCaseTest {
+    private final InMemoryGameRepository store = new InMemoryGameRepository(Duration.ofHours(1),
+            Duration.ofHours(1), 1000, Duration.ofHours(1), Duration.ZERO, "unused");
+    private final GameCommandExecutor executor = new GameCommandExecutor(2, new MockEnvironment());
+    private final GameCommitService commitService = new GameCommitService(store, List.of());
+    private final CpuTurnScheduler scheduler = new CpuTurnScheduler(store, TestGames.turnService(), executor,
+            commitService, false, Duration.ofHours(1), Duration.ofHours(1));
+    private final BulkActionUseCase bulk = new BulkActionUseCase(new BatchActionUseCase(store,
+            new PlayCardUseCase(store, TestGames.turnService(), executor, commitService, scheduler),
+            new DrawCardUseCase(store, executor, commitService, scheduler),
+            new ProcessCpuTurnUseCase(store, TestGames.turnService(), executor, commitService, scheduler),
+            executor, commitService, scheduler));
+
+    @AfterEach
+    void shutdown() {
+        scheduler.shutdown();
+        executor.shutdown();
+        store.shutdown();
+    }
+
+    @Test
+    void invalidEntriesFailAloneAndTheRestApply() {
+        Game game = TestGames.started(1);
+        store.restore(game);
+        Command draw = new Command(CommandType.DRAW, game.getTurnManager().getCurrentPlayer().getId(), null, null);
+
+        List<BulkResultDto> results = bulk.execute(Arrays.asList(
+                new GameBatch(null, List.of(draw), null),
+                new GameBatch(game.getId(), null, null),
+                null,
+                new GameBatch(game.getId(), Arrays.asList(draw, null), null),
+                new GameBatch("missing", List.of(draw), null),
+                new GameBatch(game.getId(), List.of(draw), null))).join();
+
+        assertThat(results).extracting(BulkResultDto::getStatus).containsExactly(
+                Status.ERROR, Status.ERROR, Status.ERROR, Status.ERROR, Status.ERROR, Status.OK);
+        assertThat(results.subList(0, 5)).extracting(BulkResultDto::getError).doesNotContainNull();
+        assertThat(results.get(5).getVersion()).isEqualTo(game.getVersion() + 1);
+        assertThat(store.findById(game.getId()).orElseThrow().getVersion()).isEqualTo(game.getVersion() + 1);
+    }
+}
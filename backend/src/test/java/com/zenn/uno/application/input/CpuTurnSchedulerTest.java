@@ -0,0 +1,175 @@
+package com.zenn.uno.application.input;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zenn.uno.TestGames;
+import com.zenn.uno.adapter.persistence.InMemoryGameRepository;
+import com.zenn.uno.application.output.GameRepository;
+import com.zenn.uno.domain.model.Game;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+
+class CpuTurnSchedulerTest {
+    private final InMemoryGameRepository store = new InMemoryGameRepository(Duration.ofHours(1),
+            Duration.ofHours(1), 1000, Duration.ofHours(1), Duration.ZERO, "unused");
+    private final GameCommandExecutor executor = new GameCommandExecutor(2, new MockEnvironment());
+    private CpuTurnScheduler scheduler;
+
+    @AfterEach
+    void shutdown() {
+        scheduler.shutdown();
+        executor.shutdown();
+        store.shutdown();
+    }
+
+    @Test
+    void resumesGamesRestoredBeforeStartup() {
+        Game game = TestGames.started(1);
+        store.restore(game);
+        scheduler = scheduler(store);
+
+        scheduler.resumeLoadedGames();
+
+        awaitVersion(store, game.getId(), 2);
+    }
+
+    @Test
+    void resumesGamesRehydratedFromDisk(@TempDir Path dir) {
+        InMemoryGameRepository hibernating = new InMemoryGameRepository(Duration.ofHours(1),
+                Duration.ofHours(1), 1000, Duration.ofMillis(20), Duration.ofMillis(200), dir.toString());
+        try {
+            Game game = TestGames.started(2);
+            hibernating.restore(game);
+            while (hibernating.size() > 0) {
+                sleep(20); // Idle past hibernateAfter: written to disk, dropped from the heap
+            }
+            scheduler = scheduler(hibernating);
+            scheduler.resumeLoadedGames();
+
+            hibernating.findById(game.getId()).orElseThrow();
+
+            awaitVersion(hibernating, game.getId(), 2);
+        } finally {
+            hibernating.shutdown();
+        }
+    }
+
+    @Test
+    void aZeroDelayMovesWithoutTheServerDefaultPause() {
+        Game game = TestGames.started(4);
+        game.setCpuTurnDelayMillis(0);
+        store.restore(game);
+        scheduler = new CpuTurnScheduler(store, TestGames.turnService(), executor,
+                new GameCommitService(store, List.of()), true, Duration.ofHours(1), Duration.ofMillis(5));
+
+        scheduler.resumeLoadedGames();
+
+        awaitVersion(store, game.getId(), 2);
+    }
+
+    @Test
+    void startClampsTheRequestedDelay() {
+        scheduler = scheduler(store);
+        StartGameUseCase start = new StartGameUseCase(new GameCommitService(store, List.of()), scheduler);
+
+        assertThat(delayOf(start.execute(Duration.ofMillis(-5)))).isZero();
+        assertThat(delayOf(start.execute(Duration.ZERO))).isZero();
+        assertThat(delayOf(start.execute(Duration.ofDays(365))))
+                .isEqualTo(StartGameUseCase.MAX_CPU_TURN_DELAY.toMillis());
+        assertThat(delayOf(start.execute(null))).isEqualTo(Game.DEFAULT_CPU_TURN_DELAY);
+    }
+
+    private long delayOf(String gameId) {
+        return store.findById(gameId).orElseThrow().getCpuTurnDelayMillis();
+    }
+
+    @Test
+    void retriesATurnThatFailed() {
+        AtomicInteger failures = new AtomicInteger();
+        GameRepository failingOnce = new DelegatingRepository(store) {
+            @Override
+            public boolean compareAndSave(Game game, long expectedVersion) {
+                if (failures.getAndIncrement() == 0) {
+                    throw new IllegalStateException("Log append failed");
+                }
+                return super.compareAndSave(game, expectedVersion);
+            }
+        };
+        Game game = TestGames.started(3);
+        store.restore(game);
+        scheduler = scheduler(failingOnce);
+
+        scheduler.resumeLoadedGames();
+
+        awaitVersion(store, game.getId(), 2);
+        assertThat(failures.get()).isGreaterThan(1);
+    }
+
+    private CpuTurnScheduler scheduler(GameRepository repository) {
+        return new CpuTurnScheduler(repository, TestGames.turnService(), executor,
+                new GameCommitService(repository, List.of()), true, Duration.ofMillis(20), Duration.ofMillis(5));
+    }
+
+    private static void awaitVersion(GameRepository repository, String gameId, long version) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (repository.findById(gameId).orElseThrow().getVersion() < version) {
+            assertThat(System.currentTimeMillis()).as("game %s reaching version %d", gameId, version)
+                    .isLessThan(deadline);
+            sleep(10);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class DelegatingRepository implements GameRepository {
+        private final GameRepository delegate;
+
+        DelegatingRepository(GameRepository delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void save(Game game) {
+            delegate.save(game);
+        }
+
+        @Override
+        public boolean compareAndSave(Game game, long expectedVersion) {
+            return delegate.compareAndSave(game, expectedVersion);
+        }
+
+        @Override
+        public Optional<Game> findById(String id) {
+            return delegate.findById(id);
+        }
+
+        @Override
+        public void deleteById(String id) {
+            delegate.deleteById(id);
+        }
+
+        @Override
+        public void forEachLoaded(Consumer<Game> action) {
+            delegate.forEachLoaded(action);
+        }
+
+        @Override
+        public void addLoadListener(Consumer<Game> listener) {
+            delegate.addLoadListener(listener);
+        }
+    }
+}
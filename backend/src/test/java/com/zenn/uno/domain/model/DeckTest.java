@@ -0,0 +1,39 @@
+package com.zenn.uno.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+// A copy (a command's working copy of a game) must not move the original's randomness
+class DeckTest {
+    @Test
+    void shufflingADiscardedCopyLeavesTheOriginalAsItWas() {
+        Deck deck = new Deck(new SplittableRandom(3));
+        long state = deck.getRandomState();
+        Deck untouched = deck.copy();
+
+        Deck discarded = deck.copy();
+        discarded.shuffle();
+        discarded.shuffle();
+
+        assertThat(deck.getRandomState()).isEqualTo(state);
+        deck.shuffle();
+        untouched.shuffle();
+        assertThat(new ArrayList<>(deck.getCards())).containsExactlyElementsOf(untouched.getCards());
+        assertThat(deck.getRandomState()).isNotEqualTo(state);
+    }
+
+    @Test
+    void aRestoredDeckShufflesLikeTheOriginal() {
+        Deck deck = new Deck(new SplittableRandom(5));
+        Deck restored = new Deck(List.copyOf(deck.getCards()), deck.getRandomState());
+
+        deck.shuffle();
+        restored.shuffle();
+
+        assertThat(restored.getCards()).containsExactlyElementsOf(deck.getCards());
+    }
+}
@@ -0,0 +1,64 @@
+package com.zenn.uno.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+// Whatever List method changes the cards, the index must describe the cards actually held
+class HandTest {
+    @Test
+    void listMutatorsKeepTheIndexInStep() {
+        Hand hand = dealt(11);
+
+        hand.remove(3);
+        hand.removeIf(card -> card.getColor() == Color.RED);
+        for (Iterator<Card> it = hand.iterator(); it.hasNext();) {
+            if (it.next().getType() == CardType.WILD) {
+                it.remove();
+            }
+        }
+        hand.sort(Comparator.comparingInt(Card::id).reversed());
+        hand.set(0, Card.createWild(CardType.WILD_DRAW4));
+        hand.add(1, Card.createNumber(Color.BLUE, 7));
+        hand.listIterator(hand.size()).add(Card.createAction(Color.GREEN, CardType.SKIP));
+
+        assertSameIndex(hand);
+    }
+
+    @Test
+    void removingByIndexKeepsTheOrderOfTheRest() {
+        Hand hand = dealt(7);
+        List<Card> expected = new ArrayList<>(hand);
+
+        Card removed = hand.remove(2);
+
+        assertThat(removed).isEqualTo(expected.remove(2));
+        assertThat(hand).containsExactlyElementsOf(expected);
+        assertSameIndex(hand);
+    }
+
+    private static Hand dealt(long seed) {
+        Deck deck = new Deck(new SplittableRandom(seed));
+        Hand hand = new Hand();
+        deck.drawN(40, hand::add);
+        return hand;
+    }
+
+    // The same cards added one by one to a fresh hand
+    private static void assertSameIndex(Hand hand) {
+        Hand rebuilt = new Hand();
+        hand.forEach(rebuilt::add);
+        assertThat(hand.mask()).isEqualTo(rebuilt.mask());
+        for (int id = 0; id < Card.COUNT; id++) {
+            assertThat(hand.count(Card.of(id))).as("count of %s", Card.of(id)).isEqualTo(rebuilt.count(Card.of(id)));
+        }
+        for (Color color : Color.values()) {
+            assertThat(hand.countOf(color)).as("count of %s", color).isEqualTo(rebuilt.countOf(color));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.zenn.uno.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+// Every (top card, current color, card) against the play rule as it was written before the table
+class PlayabilityTableTest {
+    private static final List<Color> CURRENT_COLORS = currentColors();
+
+    @Test
+    void matchesTheRuleForEveryCombination() {
+        int checked = 0;
+        for (int top = 0; top < Card.COUNT; top++) {
+            for (Color color : CURRENT_COLORS) {
+                for (int card = 0; card < Card.COUNT; card++) {
+                    assertThat(PlayabilityTable.canPlay(Card.of(top), color, Card.of(card)))
+                            .as("%s on %s, color %s", Card.of(card), Card.of(top), color)
+                            .isEqualTo(reference(Card.of(top), color, Card.of(card)));
+                    checked++;
+                }
+            }
+        }
+        assertThat(checked).isEqualTo(58 * 58 * 6);
+    }
+
+    @Test
+    void playableMaskHoldsExactlyThePlayableFaces() {
+        for (int top = 0; top < Card.COUNT; top++) {
+            for (Color color : CURRENT_COLORS) {
+                long expected = 0;
+                for (int card = 0; card < Card.COUNT; card++) {
+                    if (reference(Card.of(top), color, Card.of(card))) {
+                        expected |= 1L << card;
+                    }
+                }
+                assertThat(PlayabilityTable.playable(Card.of(top), color)).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void gameAsksTheTableAboutItsPile() {
+        List<Player> players = new ArrayList<>(List.of(new Player("0", "You", false)));
+        for (int top = 0; top < Card.COUNT; top++) {
+            for (Color color : CURRENT_COLORS) {
+                Game game = new Game(players);
+                game.getDiscardPile().add(Card.of(top));
+                game.setCurrentColor(color);
+
+                assertThat(game.playableMask()).isEqualTo(PlayabilityTable.playable(Card.of(top), color));
+                for (int card = 0; card < Card.COUNT; card++) {
+                    assertThat(game.canPlay(Card.of(card))).isEqualTo(reference(Card.of(top), color, Card.of(card)));
+                }
+            }
+        }
+    }
+
+    // Game.canPlay before the table
+    private static boolean reference(Card top, Color currentColor, Card card) {
+        if (card.isWild()) {
+            return true;
+        }
+        if (card.getColor() == currentColor) {
+            return true;
+        }
+        if (card.getType() != CardType.NUMBER && card.getType() == top.getType()) {
+            return true;
+        }
+        return card.getType() == CardType.NUMBER && top.getType() == CardType.NUMBER
+                && card.getNumber().equals(top.getNumber());
+    }
+
+    // Every color, including BLACK (never set by play, but representable) and not set yet
+    private static List<Color> currentColors() {
+        List<Color> colors = new ArrayList<>(Arrays.asList(Color.values()));
+        colors.add(null);
+        return colors;
+    }
+}
@@ -95,22 +95,15 @@ function App() {
   }, [game]);
 
 
+  // CPU turns are played by the server (paced for animations) and pushed to us.
+  // Pushes can overtake each other (e.g. vs. the initial snapshot), so keep the newest version.
   useEffect(() => {
-    if (!gameId || !game || game.state === 'FINISHED') return;
-
-    const currentPlayer = game.players[game.currentPlayerIndex];
-    if (currentPlayer.cpu) {
-      const timer = setTimeout(async () => {
-        try {
-          const updatedGame = await api.processCpuTurn(gameId);
-          setGame(updatedGame);
-        } catch (e) {
-          console.error("CPU turn failed", e);
-        }
-      }, 3000); // Increased delay to allow animations
-      return () => clearTimeout(timer);
-    }
-  }, [gameId, game, fetchState]);
+    if (!gameId) return;
+    const source = api.subscribe(gameId, (pushed) => {
+      setGame(prev => (prev && prev.version > pushed.version ? prev : pushed));
+    });
+    return () => source.close();
+  }, [gameId]);
 
   // Handle Play
   const handlePlay = async (cardIndices: number[], declaredColor?: Color) => {
@@ -1,4 +1,4 @@
-import type { GameDto, Color } from './types';
+import type { GameDto, Color, FastForwardResult } from './types';
 
 const API_BASE = 'http://localhost:8080/api/games';
 
@@ -47,5 +47,24 @@ export const api = {
         });
         if (!res.ok) throw new Error('Error processing CPU turn');
         return await res.json();
+    },
+
+    // Live state pushed by the server (Server-Sent Events); caller closes it
+    subscribe: (gameId: string, onState: (game: GameDto) => void): EventSource => {
+        const source = new EventSource(`${API_BASE}/${gameId}/events`);
+        const handler = (e: MessageEvent) => onState(JSON.parse(e.data));
+        for (const type of ['STATE', 'CARD_PLAYED', 'CARD_DRAWN', 'TURN_ADVANCED', 'GAME_FINISHED']) {
+            source.addEventListener(type, handler);
+        }
+        return source;
+    },
+
+    // Skip animations: play all CPU turns until it's our move again
+    fastForward: async (gameId: string): Promise<FastForwardResult> => {
+        const res = await fetch(`${API_BASE}/${gameId}/actions/fast-forward`, {
+            method: 'POST'
+        });
+        if (!res.ok) throw new Error('Error fast-forwarding CPU turns');
+        return await res.json();
     }
 };
@@ -56,6 +56,7 @@ export interface GameDto {
     // And keep `id` as is for now to avoid breaking other things if I'm not sure.
     // Wait, if I change `GameDto`, I need to match existing fields for TargetContent.
     id: string;
+    version: number;
     state: GameState;
     currentColor: Color;
     topCard: Card;
@@ -66,3 +67,8 @@ export interface GameDto {
     players: Player[];
     myHand: Card[];
 }
+
+export interface FastForwardResult {
+    actions: LastAction[];
+    state: GameDto;
+}